@@ -0,0 +1,21 @@
+plugins {
+    id("conventions.base")
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(projects.cloudBrigadier)
+    jmh(libs.brigadier)
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh
+    /* Record allocation rates alongside throughput so releases can be compared */
+    profilers.add("gc")
+    resultFormat = "JSON"
+}
+
+/* Disable checkstyle on benchmarks, JMH requires public non-final state */
+tasks.named("checkstyleJmh") {
+    enabled = false
+}
@@ -0,0 +1,189 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks;
+
+import com.mojang.brigadier.CommandDispatcher;
+import java.util.Arrays;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.brigadier.CloudBrigadierCommand;
+import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.brigadier.permission.BrigadierPermissionChecker;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.parser.standard.StringParser.greedyStringParser;
+
+/**
+ * Shared command trees for the Brigadier benchmarks.
+ * <p>
+ * Every root command has the shape {@code command<n> (info | reload | literal <integer> [string])} so that both the
+ * literal sibling filtering and the delegated cloud suggestions are exercised.
+ */
+final class BenchmarkCommands {
+
+    static final SenderMapper<BenchmarkSource, BenchmarkSender> SENDER_MAPPER =
+            SenderMapper.create(BenchmarkSource::sender, BenchmarkSource::new);
+
+    private static final List<Suggestion> STRING_SUGGESTIONS = Arrays.asList(
+            Suggestion.suggestion("some"),
+            Suggestion.suggestion("suggestions"),
+            Suggestion.suggestion("summer"),
+            Suggestion.suggestion("winter")
+    );
+
+    private BenchmarkCommands() {
+    }
+
+    static @NonNull String label(final int index) {
+        return "command" + index;
+    }
+
+    static @NonNull BenchmarkCommandManager createCommandManager(final int commandCount) {
+        final BenchmarkCommandManager commandManager = new BenchmarkCommandManager();
+        for (int i = 0; i < commandCount; i++) {
+            final String label = label(i);
+            commandManager.command(commandManager.commandBuilder(label).literal("info").handler(ctx -> {}));
+            commandManager.command(commandManager.commandBuilder(label).literal("reload").handler(ctx -> {}));
+            commandManager.command(
+                    commandManager.commandBuilder(label)
+                            .literal("literal")
+                            .required("integer", integerParser(0, 10))
+                            .optional("string", greedyStringParser(), SuggestionProvider.suggesting(STRING_SUGGESTIONS))
+                            .handler(ctx -> {})
+            );
+        }
+        return commandManager;
+    }
+
+    static @NonNull CloudBrigadierManager<BenchmarkSender, BenchmarkSource> createBrigadierManager(
+            final @NonNull BenchmarkCommandManager commandManager
+    ) {
+        return new CloudBrigadierManager<>(commandManager, SENDER_MAPPER);
+    }
+
+    static @NonNull BrigadierPermissionChecker<BenchmarkSender> permissionChecker(
+            final @NonNull BenchmarkCommandManager commandManager
+    ) {
+        return (sender, permission) -> commandManager.testPermission(sender, permission).allowed();
+    }
+
+    /**
+     * Builds the Brigadier tree for every cloud root node and registers it in a new dispatcher.
+     *
+     * @param commandManager   the command manager
+     * @param brigadierManager the brigadier manager
+     * @return the dispatcher
+     */
+    static @NonNull CommandDispatcher<BenchmarkSource> createDispatcher(
+            final @NonNull BenchmarkCommandManager commandManager,
+            final @NonNull CloudBrigadierManager<BenchmarkSender, BenchmarkSource> brigadierManager
+    ) {
+        final CommandDispatcher<BenchmarkSource> dispatcher = new CommandDispatcher<>();
+        final CloudBrigadierCommand<BenchmarkSender, BenchmarkSource> executor =
+                new CloudBrigadierCommand<>(commandManager, brigadierManager);
+        final BrigadierPermissionChecker<BenchmarkSender> permissionChecker = permissionChecker(commandManager);
+        for (final CommandNode<BenchmarkSender> rootNode : commandManager.commandTree().rootNodes()) {
+            dispatcher.getRoot().addChild(brigadierManager.literalBrigadierNodeFactory().createNode(
+                    rootNode.component().name(),
+                    rootNode,
+                    executor,
+                    permissionChecker
+            ));
+        }
+        return dispatcher;
+    }
+
+    /**
+     * Walks the cloud tree from the root named {@code label} following the given component names.
+     *
+     * @param commandManager the command manager
+     * @param label          the root label
+     * @param path           the component names to follow
+     * @return the node, or {@code null} if the path does not exist
+     */
+    static @Nullable CommandNode<BenchmarkSender> findNode(
+            final @NonNull BenchmarkCommandManager commandManager,
+            final @NonNull String label,
+            final @NonNull String @NonNull... path
+    ) {
+        CommandNode<BenchmarkSender> node = commandManager.commandTree().getNamedNode(label);
+        for (final String name : path) {
+            if (node == null) {
+                return null;
+            }
+            CommandNode<BenchmarkSender> next = null;
+            for (final CommandNode<BenchmarkSender> child : node.children()) {
+                if (child.component() != null && child.component().name().equals(name)) {
+                    next = child;
+                    break;
+                }
+            }
+            node = next;
+        }
+        return node;
+    }
+
+
+    static final class BenchmarkCommandManager extends CommandManager<BenchmarkSender> {
+
+        BenchmarkCommandManager() {
+            super(ExecutionCoordinator.simpleCoordinator(), CommandRegistrationHandler.nullCommandRegistrationHandler());
+        }
+
+        @Override
+        public boolean hasPermission(final @NonNull BenchmarkSender sender, final @NonNull String permission) {
+            return true;
+        }
+    }
+
+    /**
+     * Cloud sender type, standing in for a platform sender.
+     */
+    static final class BenchmarkSender {
+    }
+
+    /**
+     * Brigadier source type, standing in for a platform command source stack.
+     */
+    static final class BenchmarkSource {
+
+        private final BenchmarkSender sender;
+
+        BenchmarkSource(final @NonNull BenchmarkSender sender) {
+            this.sender = sender;
+        }
+
+        @NonNull BenchmarkSender sender() {
+            return this.sender;
+        }
+    }
+}
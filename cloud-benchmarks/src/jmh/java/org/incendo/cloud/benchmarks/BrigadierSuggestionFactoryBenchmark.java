@@ -0,0 +1,126 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.ParseResults;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.benchmarks.BenchmarkCommands.BenchmarkCommandManager;
+import org.incendo.cloud.benchmarks.BenchmarkCommands.BenchmarkSender;
+import org.incendo.cloud.benchmarks.BenchmarkCommands.BenchmarkSource;
+import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.brigadier.suggestion.BrigadierSuggestionFactory;
+import org.incendo.cloud.brigadier.suggestion.TooltipSuggestion;
+import org.incendo.cloud.internal.CommandNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a single tab-completion request, i.e. the work done for every keystroke of a player.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BrigadierSuggestionFactoryBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int commandCount;
+
+    @Param({"command5 literal ", "command5 literal 5 ", "command5 literal 5 su"})
+    public String input;
+
+    private CommandDispatcher<BenchmarkSource> dispatcher;
+    private BrigadierSuggestionFactory<BenchmarkSender, BenchmarkSource> suggestionFactory;
+    private BenchmarkSource source;
+    private CommandContext<BenchmarkSource> context;
+    private CommandNode<BenchmarkSender> parentNode;
+    private int cursor;
+
+    /**
+     * Builds the Brigadier tree and parses the benchmark input.
+     */
+    @Setup
+    public void setup() {
+        final BenchmarkCommandManager commandManager = BenchmarkCommands.createCommandManager(this.commandCount);
+        final CloudBrigadierManager<BenchmarkSender, BenchmarkSource> brigadierManager =
+                BenchmarkCommands.createBrigadierManager(commandManager);
+        this.dispatcher = BenchmarkCommands.createDispatcher(commandManager, brigadierManager);
+        this.suggestionFactory = new BrigadierSuggestionFactory<>(
+                brigadierManager,
+                commandManager,
+                commandManager.suggestionFactory().mapped(TooltipSuggestion::tooltipSuggestion)
+        );
+        this.source = new BenchmarkSource(new BenchmarkSender());
+        this.context = this.dispatcher.parse(this.input, this.source).getContext().build(this.input);
+        this.cursor = this.input.length();
+
+        /* The node being suggested is the one after the last complete token, we need its parent */
+        final String[] tokens = this.input.split(" ", -1);
+        final String[] path = Arrays.copyOfRange(new String[] {"literal", "integer", "string"}, 0, tokens.length - 2);
+        this.parentNode = BenchmarkCommands.findNode(commandManager, tokens[0], path);
+    }
+
+    /**
+     * Invokes the cloud suggestion pipeline directly, as the delegating suggestion provider does.
+     *
+     * @return the suggestions
+     * @throws Exception if the suggestions fail
+     */
+    @Benchmark
+    public Suggestions buildSuggestions() throws Exception {
+        return this.suggestionFactory.buildSuggestions(
+                this.context,
+                this.parentNode,
+                new SuggestionsBuilder(this.input, this.cursor)
+        ).get();
+    }
+
+    /**
+     * Parses the input and requests completions through the dispatcher, as the server does for each keystroke.
+     *
+     * @return the suggestions
+     * @throws Exception if the suggestions fail
+     */
+    @Benchmark
+    public Suggestions dispatcherCompletions() throws Exception {
+        final ParseResults<BenchmarkSource> parse = this.dispatcher.parse(this.input, this.source);
+        return this.dispatcher.getCompletionSuggestions(parse, this.cursor).get();
+    }
+}
@@ -0,0 +1,99 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.benchmarks.BenchmarkCommands.BenchmarkCommandManager;
+import org.incendo.cloud.benchmarks.BenchmarkCommands.BenchmarkSender;
+import org.incendo.cloud.benchmarks.BenchmarkCommands.BenchmarkSource;
+import org.incendo.cloud.brigadier.CloudBrigadierCommand;
+import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures command dispatch through {@link CloudBrigadierCommand#run(CommandContext)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CloudBrigadierCommandBenchmark {
+
+    @Param({"command5 info", "command5 literal 5", "command5 literal 5 some text"})
+    public String input;
+
+    private CommandDispatcher<BenchmarkSource> dispatcher;
+    private CloudBrigadierCommand<BenchmarkSender, BenchmarkSource> command;
+    private BenchmarkSource source;
+    private CommandContext<BenchmarkSource> context;
+
+    /**
+     * Builds the Brigadier tree and parses the benchmark input.
+     */
+    @Setup
+    public void setup() {
+        final BenchmarkCommandManager commandManager = BenchmarkCommands.createCommandManager(10);
+        final CloudBrigadierManager<BenchmarkSender, BenchmarkSource> brigadierManager =
+                BenchmarkCommands.createBrigadierManager(commandManager);
+        this.dispatcher = BenchmarkCommands.createDispatcher(commandManager, brigadierManager);
+        this.command = new CloudBrigadierCommand<>(commandManager, brigadierManager);
+        this.source = new BenchmarkSource(new BenchmarkSender());
+        this.context = this.dispatcher.parse(this.input, this.source).getContext().build(this.input);
+    }
+
+    /**
+     * Runs the cloud command from an already parsed Brigadier context.
+     *
+     * @return the command result
+     */
+    @Benchmark
+    public int run() {
+        return this.command.run(this.context);
+    }
+
+    /**
+     * Parses and executes the input through the dispatcher, as the server does for each command.
+     *
+     * @return the command result
+     * @throws Exception if the command fails
+     */
+    @Benchmark
+    public int dispatch() throws Exception {
+        return this.dispatcher.execute(this.input, this.source);
+    }
+}
@@ -0,0 +1,101 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks;
+
+import com.mojang.brigadier.Command;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.benchmarks.BenchmarkCommands.BenchmarkCommandManager;
+import org.incendo.cloud.benchmarks.BenchmarkCommands.BenchmarkSender;
+import org.incendo.cloud.benchmarks.BenchmarkCommands.BenchmarkSource;
+import org.incendo.cloud.brigadier.CloudBrigadierCommand;
+import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory;
+import org.incendo.cloud.brigadier.permission.BrigadierPermissionChecker;
+import org.incendo.cloud.internal.CommandNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the construction of the complete Brigadier tree through
+ * {@link LiteralBrigadierNodeFactory#createNode(String, CommandNode, Command, BrigadierPermissionChecker)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LiteralBrigadierNodeFactoryBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int commandCount;
+
+    private LiteralBrigadierNodeFactory<BenchmarkSender, BenchmarkSource> nodeFactory;
+    private List<CommandNode<BenchmarkSender>> rootNodes;
+    private Command<BenchmarkSource> executor;
+    private BrigadierPermissionChecker<BenchmarkSender> permissionChecker;
+
+    /**
+     * Registers the cloud commands.
+     */
+    @Setup
+    public void setup() {
+        final BenchmarkCommandManager commandManager = BenchmarkCommands.createCommandManager(this.commandCount);
+        final CloudBrigadierManager<BenchmarkSender, BenchmarkSource> brigadierManager =
+                BenchmarkCommands.createBrigadierManager(commandManager);
+        this.nodeFactory = brigadierManager.literalBrigadierNodeFactory();
+        this.rootNodes = new ArrayList<>(commandManager.commandTree().rootNodes());
+        this.executor = new CloudBrigadierCommand<>(commandManager, brigadierManager);
+        this.permissionChecker = BenchmarkCommands.permissionChecker(commandManager);
+    }
+
+    /**
+     * Builds the Brigadier tree for every root command.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void createTree(final Blackhole blackhole) {
+        for (final CommandNode<BenchmarkSender> rootNode : this.rootNodes) {
+            blackhole.consume(this.nodeFactory.createNode(
+                    rootNode.component().name(),
+                    rootNode,
+                    this.executor,
+                    this.permissionChecker
+            ));
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * JMH benchmarks for the Brigadier integration.
+ */
+package org.incendo.cloud.benchmarks;
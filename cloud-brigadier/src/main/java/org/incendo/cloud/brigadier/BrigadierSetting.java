@@ -37,5 +37,51 @@ public enum BrigadierSetting implements Setting {
      * Makes each constructed {@link com.mojang.brigadier.tree.CommandNode} executable, which allows Cloud to
      * display errors for partially completed command input.
      */
-    FORCE_EXECUTABLE
+    FORCE_EXECUTABLE,
+    /**
+     * Makes the {@link org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory} reuse the Brigadier nodes built for
+     * cloud nodes that have not changed since the tree was last built for the same label, so that only the changed
+     * subtrees are rebuilt.
+     *
+     * <p>The nodes below the returned root are then shared between the trees and must not be modified.</p>
+     *
+     * @since 2.1.0
+     */
+    REUSE_UNCHANGED_NODES,
+    /**
+     * Caches the suggestions produced by cloud for the argument that is being completed, so that subsequent keystrokes
+     * within the same argument are answered by filtering the cached suggestions instead of invoking the suggestion
+     * providers again. The cache is configured using
+     * {@link CloudBrigadierManager#suggestionCachePolicy(org.incendo.cloud.brigadier.suggestion.SuggestionCachePolicy)}.
+     *
+     * <p>This should only be enabled if the suggestions for an argument do not depend on its partial input.</p>
+     *
+     * @since 2.1.0
+     */
+    CACHE_SUGGESTIONS,
+    /**
+     * Makes the permission requirements of the constructed {@link com.mojang.brigadier.tree.CommandNode nodes} share
+     * their results while they are tested consecutively for the same source, so that a permission that guards many nodes
+     * is only checked once each time the command tree is sent to a player.
+     *
+     * <p>The results are kept until the tree has been walked for the source, so permission changes take effect the next
+     * time the tree is sent, or a command is parsed.</p>
+     *
+     * @since 2.1.0
+     */
+    MEMOIZE_PERMISSION_CHECKS,
+    /**
+     * Makes {@link CloudBrigadierCommand} hand the arguments that were already parsed by Brigadier over to cloud, so that
+     * {@link org.incendo.cloud.brigadier.parser.WrappedBrigadierParser wrapped parsers} do not parse them again when
+     * the command is executed.
+     *
+     * <p>Wrapped parsers that replace {@link com.mojang.brigadier.arguments.ArgumentType#parse(com.mojang.brigadier.StringReader)}
+     * with a custom parse function always parse the input themselves, as their results may differ.</p>
+     *
+     * <p>A value is only reused if the argument type of the wrapped parser is the instance that parsed it, or equal to
+     * it, see {@link org.incendo.cloud.brigadier.parser.ParsedBrigadierArguments}.</p>
+     *
+     * @since 2.1.0
+     */
+    REUSE_PARSED_ARGUMENTS
 }
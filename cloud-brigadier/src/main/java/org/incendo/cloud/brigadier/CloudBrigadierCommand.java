@@ -27,14 +27,19 @@ import com.mojang.brigadier.Command;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.context.ParsedCommandNode;
 import com.mojang.brigadier.context.StringRange;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.brigadier.parser.ParsedBrigadierArguments;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.type.tuple.Pair;
 
@@ -47,6 +52,25 @@ import org.incendo.cloud.type.tuple.Pair;
 @API(status = API.Status.INTERNAL)
 public final class CloudBrigadierCommand<C, S> implements Command<S> {
 
+    /**
+     * Whether {@code CommandContext#getNodes} returns a {@link List} of {@link ParsedCommandNode parsed nodes},
+     * or a {@link Map} of nodes to ranges on older Brigadier versions.
+     */
+    private static final boolean PARSED_COMMAND_NODES;
+    private static final MethodHandle GET_NODES;
+
+    static {
+        try {
+            final Method getNodes = com.mojang.brigadier.context.CommandContext.class.getMethod("getNodes");
+            PARSED_COMMAND_NODES = List.class.isAssignableFrom(getNodes.getReturnType());
+            GET_NODES = MethodHandles.publicLookup()
+                .unreflect(getNodes)
+                .asType(MethodType.methodType(Object.class, com.mojang.brigadier.context.CommandContext.class));
+        } catch (final ReflectiveOperationException ex) {
+            throw new RuntimeException("Failed to find CommandContext#getNodes", ex);
+        }
+    }
+
     private final CommandManager<C> commandManager;
     private final CloudBrigadierManager<C, S> brigadierManager;
     private final Function<String, String> inputMapper;
@@ -87,14 +111,25 @@ public final class CloudBrigadierCommand<C, S> implements Command<S> {
     public int run(final @NonNull CommandContext<S> ctx) {
         final S source = ctx.getSource();
         final String input = this.inputMapper.apply(
-            ctx.getInput().substring(parsedNodes(ctx.getLastChild()).get(0).second().getStart())
+            ctx.getInput().substring(firstNodeStart(ctx.getLastChild()))
         );
         final C sender = this.brigadierManager.senderMapper().map(source);
+        final @Nullable ParsedBrigadierArguments parsedArguments;
+        if (this.brigadierManager.settings().get(BrigadierSetting.REUSE_PARSED_ARGUMENTS)) {
+            parsedArguments = ParsedBrigadierArguments.of(ctx.getLastChild(), parsedNodes(ctx.getLastChild()));
+        } else {
+            parsedArguments = null;
+        }
 
         this.commandManager.commandExecutor().executeCommand(
             sender,
             input,
-            cloudContext -> cloudContext.store(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER, source)
+            cloudContext -> {
+                cloudContext.store(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER, source);
+                if (parsedArguments != null) {
+                    cloudContext.store(ParsedBrigadierArguments.KEY, parsedArguments);
+                }
+            }
         );
         return com.mojang.brigadier.Command.SINGLE_SUCCESS;
     }
@@ -107,39 +142,68 @@ public final class CloudBrigadierCommand<C, S> implements Command<S> {
      * @param <S>            source type
      * @return parsed nodes
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("unchecked")
     public static <S> List<Pair<com.mojang.brigadier.tree.CommandNode<S>, StringRange>> parsedNodes(
         final com.mojang.brigadier.context.CommandContext<S> commandContext
     ) {
+        if (PARSED_COMMAND_NODES) {
+            return ParsedCommandNodeHandler.toPairList(commandContext);
+        }
+        final Map<com.mojang.brigadier.tree.CommandNode<S>, StringRange> nodes =
+            (Map<com.mojang.brigadier.tree.CommandNode<S>, StringRange>) nodes(commandContext);
+        final List<Pair<com.mojang.brigadier.tree.CommandNode<S>, StringRange>> pairs = new ArrayList<>(nodes.size());
+        for (final Map.Entry<com.mojang.brigadier.tree.CommandNode<S>, StringRange> entry : nodes.entrySet()) {
+            pairs.add(Pair.of(entry.getKey(), entry.getValue()));
+        }
+        return pairs;
+    }
+
+    /**
+     * Returns the start of the range of the first parsed node, without building the list of
+     * {@link #parsedNodes(com.mojang.brigadier.context.CommandContext) parsed nodes}.
+     *
+     * @param commandContext command context
+     * @return start index of the first parsed node in the input
+     * @since 2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    @API(status = API.Status.INTERNAL, since = "2.1.0")
+    public static int firstNodeStart(final com.mojang.brigadier.context.@NonNull CommandContext<?> commandContext) {
+        if (PARSED_COMMAND_NODES) {
+            return ParsedCommandNodeHandler.firstNodeStart(commandContext);
+        }
+        final Map<?, StringRange> nodes = (Map<?, StringRange>) nodes(commandContext);
+        return nodes.values().iterator().next().getStart();
+    }
+
+    private static Object nodes(final com.mojang.brigadier.context.CommandContext<?> commandContext) {
         try {
-            final Method getNodesMethod = commandContext.getClass().getDeclaredMethod("getNodes");
-            final Object nodes = getNodesMethod.invoke(commandContext);
-            if (nodes instanceof List) {
-                return ParsedCommandNodeHandler.toPairList((List) nodes);
-            } else if (nodes instanceof Map) {
-                return ((Map<com.mojang.brigadier.tree.CommandNode<S>, StringRange>) nodes).entrySet().stream()
-                    .map(entry -> Pair.of(entry.getKey(), entry.getValue()))
-                    .collect(Collectors.toList());
-            } else {
-                throw new IllegalStateException();
-            }
-        } catch (final ReflectiveOperationException ex) {
-            throw new RuntimeException(ex);
+            return GET_NODES.invokeExact(commandContext);
+        } catch (final Throwable thr) {
+            throw new RuntimeException(thr);
         }
     }
 
 
     // Inner class to prevent attempting to load ParsedCommandNode when it doesn't exist
-    @SuppressWarnings("unchecked")
     private static final class ParsedCommandNodeHandler {
 
         private ParsedCommandNodeHandler() {
         }
 
-        private static <S> List<Pair<com.mojang.brigadier.tree.CommandNode<S>, StringRange>> toPairList(final List<?> nodes) {
-            return ((List<ParsedCommandNode<S>>) nodes).stream()
-                .map(n -> Pair.of(n.getNode(), n.getRange()))
-                .collect(Collectors.toList());
+        private static <S> List<Pair<com.mojang.brigadier.tree.CommandNode<S>, StringRange>> toPairList(
+            final com.mojang.brigadier.context.CommandContext<S> commandContext
+        ) {
+            final List<ParsedCommandNode<S>> nodes = commandContext.getNodes();
+            final List<Pair<com.mojang.brigadier.tree.CommandNode<S>, StringRange>> pairs = new ArrayList<>(nodes.size());
+            for (final ParsedCommandNode<S> node : nodes) {
+                pairs.add(Pair.of(node.getNode(), node.getRange()));
+            }
+            return pairs;
+        }
+
+        private static int firstNodeStart(final com.mojang.brigadier.context.CommandContext<?> commandContext) {
+            return commandContext.getNodes().get(0).getRange().getStart();
         }
     }
 }
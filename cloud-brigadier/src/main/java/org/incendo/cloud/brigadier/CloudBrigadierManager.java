@@ -23,6 +23,7 @@
 //
 package org.incendo.cloud.brigadier;
 
+import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.arguments.BoolArgumentType;
 import com.mojang.brigadier.arguments.DoubleArgumentType;
 import com.mojang.brigadier.arguments.FloatArgumentType;
@@ -32,14 +33,17 @@ import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.SenderMapper;
 import org.incendo.cloud.SenderMapperHolder;
@@ -50,6 +54,7 @@ import org.incendo.cloud.brigadier.argument.BrigadierMappingContributor;
 import org.incendo.cloud.brigadier.argument.BrigadierMappings;
 import org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
+import org.incendo.cloud.brigadier.suggestion.SuggestionCachePolicy;
 import org.incendo.cloud.brigadier.suggestion.TooltipSuggestion;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.flag.CommandFlagParser;
@@ -77,11 +82,25 @@ import org.incendo.cloud.setting.Configurable;
 @SuppressWarnings({"unchecked", "unused"})
 public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S, C> {
 
+    private static final ClassValue<Boolean> OVERRIDES_EQUALS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final @NonNull Class<?> type) {
+            try {
+                return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+            } catch (final NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     private final BrigadierMappings<C, S> brigadierMappings = BrigadierMappings.create();
     private final LiteralBrigadierNodeFactory<C, S> literalBrigadierNodeFactory;
     private final Map<@NonNull Class<?>, @NonNull ArgumentTypeFactory<?>> defaultArgumentTypeSuppliers;
     private final Configurable<BrigadierSetting> settings = Configurable.enumConfigurable(BrigadierSetting.class);
     private final SenderMapper<S, C> brigadierSourceMapper;
+    private final Map<Object, ArgumentType<?>> internedArgumentTypes = new ConcurrentHashMap<>();
+    private volatile SuggestionCachePolicy<C> suggestionCachePolicy = SuggestionCachePolicy.defaultPolicy();
+    private volatile @Nullable Duration suggestionTimeout;
 
     /**
      * Create a new cloud brigadier manager
@@ -221,6 +240,57 @@ public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S,
         return this.settings;
     }
 
+    /**
+     * Returns the policy of the suggestion cache that is used when {@link BrigadierSetting#CACHE_SUGGESTIONS} is enabled.
+     *
+     * @return the suggestion cache policy
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    public @NonNull SuggestionCachePolicy<C> suggestionCachePolicy() {
+        return this.suggestionCachePolicy;
+    }
+
+    /**
+     * Sets the policy of the suggestion cache that is used when {@link BrigadierSetting#CACHE_SUGGESTIONS} is enabled.
+     * Changing the policy discards all cached suggestions.
+     *
+     * @param suggestionCachePolicy the suggestion cache policy
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    public void suggestionCachePolicy(final @NonNull SuggestionCachePolicy<C> suggestionCachePolicy) {
+        this.suggestionCachePolicy = Objects.requireNonNull(suggestionCachePolicy, "suggestionCachePolicy");
+    }
+
+    /**
+     * Returns the maximum time to wait for cloud to produce the suggestions for a single Brigadier suggestion request,
+     * or {@code null} if there is no limit.
+     *
+     * @return the suggestion timeout, or {@code null}
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    public @Nullable Duration suggestionTimeout() {
+        return this.suggestionTimeout;
+    }
+
+    /**
+     * Sets the maximum time to wait for cloud to produce the suggestions for a single Brigadier suggestion request.
+     * Once the timeout has passed, the request is answered without suggestions and the pending cloud suggestion
+     * future is cancelled, so that a slow suggestion provider cannot stall tab completion.
+     *
+     * @param suggestionTimeout the suggestion timeout, or {@code null} to wait indefinitely
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    public void suggestionTimeout(final @Nullable Duration suggestionTimeout) {
+        if (suggestionTimeout != null && (suggestionTimeout.isNegative() || suggestionTimeout.isZero())) {
+            throw new IllegalArgumentException("suggestionTimeout must be positive");
+        }
+        this.suggestionTimeout = suggestionTimeout;
+    }
+
     @Override
     public @NonNull SenderMapper<S, C> senderMapper() {
         return this.brigadierSourceMapper;
@@ -273,6 +343,7 @@ public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S,
             );
         }
         this.brigadierMappings.registerMapping(parserClass, mapping.withNativeSuggestions(nativeSuggestions));
+        this.literalBrigadierNodeFactory.invalidateNodeCache();
     }
 
     /**
@@ -291,6 +362,7 @@ public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S,
         final BrigadierMappingBuilder<K, S> builder = BrigadierMapping.builder();
         configurer.accept(builder);
         this.mappings().registerMappingUnsafe((Class<K>) GenericTypeReflector.erase(parserType.getType()), builder.build());
+        this.literalBrigadierNodeFactory.invalidateNodeCache();
     }
 
     /**
@@ -329,6 +401,7 @@ public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S,
             final @NonNull ArgumentTypeFactory<T> factory
     ) {
         this.defaultArgumentTypeSuppliers.put(clazz, factory);
+        this.literalBrigadierNodeFactory.invalidateNodeCache();
     }
 
     /**
@@ -341,4 +414,33 @@ public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S,
     public @NonNull Map<@NonNull Class<?>, @NonNull ArgumentTypeFactory<?>> defaultArgumentTypeFactories() {
         return Collections.unmodifiableMap(this.defaultArgumentTypeSuppliers);
     }
+
+    /**
+     * Returns the canonical instance of the given {@code argumentType}, so that equal argument types share a single
+     * instance across the Brigadier tree.
+     *
+     * <p>Only argument types that define equality are interned, as well as {@link StringArgumentType} which is keyed
+     * by its {@link StringArgumentType.StringType}. Other argument types are returned as-is.</p>
+     *
+     * @param <T>          the argument type
+     * @param argumentType the argument type to intern
+     * @return the canonical instance
+     * @since 2.1.0
+     */
+    @API(status = API.Status.INTERNAL, since = "2.1.0")
+    public <T extends ArgumentType<?>> @NonNull T internArgumentType(final @NonNull T argumentType) {
+        final Object key;
+        if (argumentType instanceof StringArgumentType) {
+            key = ((StringArgumentType) argumentType).getType();
+        } else if (OVERRIDES_EQUALS.get(argumentType.getClass())) {
+            key = argumentType;
+        } else {
+            return argumentType;
+        }
+        final @Nullable ArgumentType<?> interned = this.internedArgumentTypes.putIfAbsent(key, argumentType);
+        if (interned == null || interned.getClass() != argumentType.getClass()) {
+            return argumentType;
+        }
+        return (T) interned;
+    }
 }
@@ -34,12 +34,19 @@ import com.mojang.brigadier.tree.LiteralCommandNode;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.brigadier.BrigadierSetting;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
@@ -65,6 +72,9 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
     private final CloudBrigadierManager<C, S> cloudBrigadierManager;
     private final CommandManager<C> commandManager;
     private final BrigadierSuggestionFactory<C, S> brigadierSuggestionFactory;
+    private final BrigadierPermissionChecker<C> defaultPermissionChecker;
+    private final Map<String, NodeMemo<C, S>> nodeMemos = new ConcurrentHashMap<>();
+    private final Map<ArgumentParser<?, ?>, ArgumentType<?>> argumentTypes = Collections.synchronizedMap(new WeakHashMap<>());
 
     /**
      * Creates a new factory that produces literal command nodes.
@@ -85,6 +95,7 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
                 commandManager,
                 suggestionFactory
         );
+        this.defaultPermissionChecker = (sender, permission) -> commandManager.testPermission(sender, permission).allowed();
     }
 
     @Override
@@ -94,6 +105,8 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
             final @NonNull Command<S> executor,
             final @NonNull BrigadierPermissionChecker<C> permissionChecker
     ) {
+        final @Nullable NodeMemo<C, S> memo = this.nextMemo(label, executor, permissionChecker);
+
         final LiteralArgumentBuilder<S> literalArgumentBuilder = LiteralArgumentBuilder
                 .<S>literal(label)
                 .requires(this.requirement(cloudCommand, permissionChecker));
@@ -101,17 +114,80 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
         this.updateExecutes(literalArgumentBuilder, cloudCommand, executor);
 
         final LiteralCommandNode<S> constructedRoot = literalArgumentBuilder.build();
+        final Set<String> siblingLiterals = BrigadierSuggestionFactory.siblingLiterals(cloudCommand);
         for (final CommandNode<C> child : cloudCommand.children()) {
-            constructedRoot.addChild(this.constructCommandNode(child, permissionChecker, executor).build());
+            constructedRoot.addChild(this.constructCommandNode(child, siblingLiterals, permissionChecker, executor, memo));
+        }
+
+        if (memo != null) {
+            this.nodeMemos.put(label, memo);
         }
         return constructedRoot;
     }
 
+    /**
+     * Discards the argument types cached per parser and all Brigadier nodes retained by
+     * {@link BrigadierSetting#REUSE_UNCHANGED_NODES}, forcing the next invocation of
+     * {@link #createNode(String, CommandNode, Command, BrigadierPermissionChecker)} to rebuild the complete tree.
+     *
+     * @since 2.1.0
+     */
+    @API(status = API.Status.INTERNAL, since = "2.1.0")
+    public void invalidateNodeCache() {
+        this.nodeMemos.clear();
+        this.argumentTypes.clear();
+    }
+
+    /**
+     * Discards the Brigadier nodes retained for {@code label} by {@link BrigadierSetting#REUSE_UNCHANGED_NODES}.
+     * This should be called when the root command with the label is deleted, as the nodes are otherwise retained
+     * until the label is registered again.
+     *
+     * @param label the command label
+     * @since 2.1.0
+     */
+    @API(status = API.Status.INTERNAL, since = "2.1.0")
+    public void invalidateNodeCache(final @NonNull String label) {
+        this.nodeMemos.remove(label);
+    }
+
+    /**
+     * Returns the memo to use when building the tree for {@code label}, seeded with the nodes that were built for
+     * the same label previously, or {@code null} if nodes should not be reused.
+     *
+     * @param label             the command label
+     * @param executor          the Brigadier command execution handler
+     * @param permissionChecker the permission checker
+     * @return the memo, or {@code null}
+     */
+    private @Nullable NodeMemo<C, S> nextMemo(
+            final @NonNull String label,
+            final @NonNull Command<S> executor,
+            final @NonNull BrigadierPermissionChecker<C> permissionChecker
+    ) {
+        if (!this.cloudBrigadierManager.settings().get(BrigadierSetting.REUSE_UNCHANGED_NODES)) {
+            this.nodeMemos.clear();
+            return null;
+        }
+        final boolean forceExecutable = this.cloudBrigadierManager.settings().get(BrigadierSetting.FORCE_EXECUTABLE);
+        final boolean memoizePermissions = this.cloudBrigadierManager.settings().get(BrigadierSetting.MEMOIZE_PERMISSION_CHECKS);
+        final @Nullable NodeMemo<C, S> previous = this.nodeMemos.get(label);
+        if (previous == null || !previous.compatible(executor, permissionChecker, forceExecutable, memoizePermissions)) {
+            return new NodeMemo<>(executor, permissionChecker, forceExecutable, memoizePermissions, Collections.emptyMap());
+        }
+        return new NodeMemo<>(executor, permissionChecker, forceExecutable, memoizePermissions, previous.built);
+    }
+
     private @NonNull BrigadierPermissionPredicate<C, S> requirement(
             final @NonNull CommandNode<C> cloudCommand,
             final @NonNull BrigadierPermissionChecker<C> permissionChecker
     ) {
-        return new BrigadierPermissionPredicate<>(this.cloudBrigadierManager.senderMapper(), permissionChecker, cloudCommand);
+        return new BrigadierPermissionPredicate<>(
+                this.cloudBrigadierManager.senderMapper(),
+                permissionChecker,
+                cloudCommand,
+                this.cloudBrigadierManager.settings().get(BrigadierSetting.MEMOIZE_PERMISSION_CHECKS)
+        );
     }
 
     @Override
@@ -134,36 +210,69 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
         final org.incendo.cloud.@NonNull Command<C> cloudCommand,
             final @NonNull Command<S> executor
     ) {
-        return this.createNode(label, cloudCommand, executor,
-                (sender, permission) -> this.commandManager.testPermission(sender, permission).allowed());
+        return this.createNode(label, cloudCommand, executor, this.defaultPermissionChecker);
     }
 
-    private @NonNull ArgumentBuilder<S, ?> constructCommandNode(
+    /**
+     * Constructs the Brigadier node for the given cloud node, and all of its children.
+     *
+     * @param root              the cloud node
+     * @param siblingLiterals   the aliases of the literal siblings of the cloud node, including its own, see
+     *                          {@link BrigadierSuggestionFactory#siblingLiterals(CommandNode)}
+     * @param permissionChecker the permission checker
+     * @param executor          the Brigadier command execution handler
+     * @param memo              the memo holding previously built nodes, or {@code null}
+     * @return the Brigadier node
+     */
+    private com.mojang.brigadier.tree.@NonNull CommandNode<S> constructCommandNode(
             final @NonNull CommandNode<C> root,
+            final @NonNull Set<String> siblingLiterals,
             final @NonNull BrigadierPermissionChecker<C> permissionChecker,
-            final com.mojang.brigadier.@NonNull Command<S> executor
+            final com.mojang.brigadier.@NonNull Command<S> executor,
+            final @Nullable NodeMemo<C, S> memo
     ) {
+        final List<com.mojang.brigadier.tree.CommandNode<S>> children = new ArrayList<>(root.children().size());
+        final Set<String> childLiterals = BrigadierSuggestionFactory.siblingLiterals(root);
+        for (final CommandNode<C> node : root.children()) {
+            children.add(this.constructCommandNode(node, childLiterals, permissionChecker, executor, memo));
+        }
+
+        if (memo != null) {
+            final com.mojang.brigadier.tree.@Nullable CommandNode<S> previous = memo.reuse(root, siblingLiterals, children);
+            if (previous != null) {
+                return previous;
+            }
+        }
+
+        final com.mojang.brigadier.tree.CommandNode<S> constructed;
         if (root.component().parser() instanceof AggregateParser) {
             final AggregateParser<C, ?> aggregateParser = (AggregateParser<C, ?>) root.component().parser();
-            return this.constructAggregateNode(
+            constructed = this.constructAggregateNode(
                     aggregateParser,
                     root,
+                    siblingLiterals,
+                    children,
                     permissionChecker,
                     executor
             );
-        }
-
-        final ArgumentBuilder<S, ?> argumentBuilder;
-        if (root.component().type() == CommandComponent.ComponentType.LITERAL) {
-            argumentBuilder = this.createLiteralArgumentBuilder(root.component(), root, permissionChecker);
         } else {
-            argumentBuilder = this.createVariableArgumentBuilder(root.component(), root, permissionChecker);
+            final ArgumentBuilder<S, ?> argumentBuilder;
+            if (root.component().type() == CommandComponent.ComponentType.LITERAL) {
+                argumentBuilder = this.createLiteralArgumentBuilder(root.component(), root, permissionChecker);
+            } else {
+                argumentBuilder = this.createVariableArgumentBuilder(root.component(), root, siblingLiterals, permissionChecker);
+            }
+            this.updateExecutes(argumentBuilder, root, executor);
+            for (final com.mojang.brigadier.tree.CommandNode<S> child : children) {
+                argumentBuilder.then(child);
+            }
+            constructed = argumentBuilder.build();
         }
-        this.updateExecutes(argumentBuilder, root, executor);
-        for (final CommandNode<C> node : root.children()) {
-            argumentBuilder.then(this.constructCommandNode(node, permissionChecker, executor));
+
+        if (memo != null) {
+            memo.store(root, siblingLiterals, children, constructed);
         }
-        return argumentBuilder;
+        return constructed;
     }
 
     private @NonNull ArgumentBuilder<S, ?> createLiteralArgumentBuilder(
@@ -178,6 +287,7 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
     private @NonNull ArgumentBuilder<S, ?> createVariableArgumentBuilder(
             final @NonNull CommandComponent<C> component,
             final @NonNull CommandNode<C> root,
+            final @NonNull Set<String> siblingLiterals,
             final @NonNull BrigadierPermissionChecker<C> permissionChecker
     ) {
         final ArgumentMapping<S> argumentMapping = this.getArgument(
@@ -187,7 +297,7 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
 
         final SuggestionProvider<S> provider;
         if (argumentMapping.suggestionsType() == SuggestionsType.CLOUD_SUGGESTIONS) {
-            provider = new CloudDelegatingSuggestionProvider<>(this.brigadierSuggestionFactory, root);
+            provider = new CloudDelegatingSuggestionProvider<>(this.brigadierSuggestionFactory, root, siblingLiterals);
         } else {
             provider = argumentMapping.suggestionProvider();
         }
@@ -198,9 +308,11 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
                 .requires(this.requirement(root, permissionChecker));
     }
 
-    private @NonNull ArgumentBuilder<S, ?> constructAggregateNode(
+    private com.mojang.brigadier.tree.@NonNull CommandNode<S> constructAggregateNode(
             final @NonNull AggregateParser<C, ?> aggregateParser,
             final @NonNull CommandNode<C> root,
+            final @NonNull Set<String> siblingLiterals,
+            final @NonNull List<com.mojang.brigadier.tree.CommandNode<S>> children,
             final @NonNull BrigadierPermissionChecker<C> permissionChecker,
             final com.mojang.brigadier.@NonNull Command<S> executor
     ) {
@@ -209,7 +321,12 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
 
         while (components.hasNext()) {
             final CommandComponent<C> component = components.next();
-            final ArgumentBuilder<S, ?> fragmentBuilder = this.createVariableArgumentBuilder(component, root, permissionChecker);
+            final ArgumentBuilder<S, ?> fragmentBuilder = this.createVariableArgumentBuilder(
+                    component,
+                    root,
+                    siblingLiterals,
+                    permissionChecker
+            );
 
             if (this.cloudBrigadierManager.settings().get(BrigadierSetting.FORCE_EXECUTABLE)) {
                 fragmentBuilder.executes(executor);
@@ -220,8 +337,8 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
 
         // We now want to link up all subsequent components to the tail.
         final ArgumentBuilder<S, ?> tail = argumentBuilders.get(argumentBuilders.size() - 1);
-        for (final CommandNode<C> node : root.children()) {
-            tail.then(this.constructCommandNode(node, permissionChecker, executor));
+        for (final com.mojang.brigadier.tree.CommandNode<S> child : children) {
+            tail.then(child);
         }
 
         this.updateExecutes(tail, root, executor);
@@ -232,7 +349,7 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
             argumentBuilders.get(i - 1).then(argumentBuilders.get(i));
         }
 
-        return argumentBuilders.get(0);
+        return argumentBuilders.get(0).build();
     }
 
     /**
@@ -257,19 +374,43 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
             return this.getDefaultMapping(valueType);
         }
 
+        final ArgumentType<?> argumentType = this.argumentType(mapping, argumentParser);
         final SuggestionProvider<S> suggestionProvider = mapping.makeSuggestionProvider(argumentParser);
         if (suggestionProvider == BrigadierMapping.delegateSuggestions()) {
             return ImmutableArgumentMapping.<S>builder()
-                    .argumentType((ArgumentType) ((Function) mapping.mapper()).apply(argumentParser))
+                    .argumentType(argumentType)
                     .suggestionsType(SuggestionsType.CLOUD_SUGGESTIONS)
                     .build();
         }
         return ImmutableArgumentMapping.<S>builder()
-                .argumentType((ArgumentType) ((Function) mapping.mapper()).apply(argumentParser))
+                .argumentType(argumentType)
                 .suggestionProvider(suggestionProvider)
                 .build();
     }
 
+    /**
+     * Returns the Brigadier argument type for the given {@code argumentParser}. The mapper is only invoked once
+     * per parser instance, and the result is {@link CloudBrigadierManager#internArgumentType(ArgumentType) interned}.
+     *
+     * @param mapping        the mapping for the parser
+     * @param argumentParser the parser
+     * @return the argument type
+     */
+    private @NonNull ArgumentType<?> argumentType(
+            final @NonNull BrigadierMapping<C, ?, S> mapping,
+            final @NonNull ArgumentParser<C, ?> argumentParser
+    ) {
+        final @Nullable ArgumentType<?> cached = this.argumentTypes.get(argumentParser);
+        if (cached != null) {
+            return cached;
+        }
+        final ArgumentType<?> argumentType = this.cloudBrigadierManager.internArgumentType(
+                (ArgumentType<?>) ((Function) mapping.mapper()).apply(argumentParser)
+        );
+        this.argumentTypes.put(argumentParser, argumentType);
+        return argumentType;
+    }
+
     /**
      * Returns a mapping to a Brigadier argument type from the registered default argument type suppliers.
      * If no mapping can be found, a {@link StringArgumentType#word()} is returned.
@@ -284,7 +425,7 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
             final ArgumentType<?> argumentType = argumentTypeSupplier.create();
             if (argumentType != null) {
                 return ImmutableArgumentMapping.<S>builder()
-                        .argumentType(argumentType)
+                        .argumentType(this.cloudBrigadierManager.internArgumentType(argumentType))
                         .build();
             }
         }
@@ -321,4 +462,116 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
             builder.executes(executor);
         }
     }
+
+
+    /**
+     * Brigadier nodes built for the cloud nodes below a single root, keyed by cloud node identity.
+     * <p>
+     * A node built previously is reused when its cloud component, owning command and sibling literals are unchanged
+     * and all of its children resolved to the same Brigadier nodes, meaning that only the changed subtrees and their ancestors are
+     * rebuilt. Cloud nodes that are no longer part of the tree are dropped on the next build.
+     */
+    private static final class NodeMemo<C, S> {
+
+        private final Command<S> executor;
+        private final BrigadierPermissionChecker<C> permissionChecker;
+        private final boolean forceExecutable;
+        private final boolean memoizePermissions;
+        private final Map<CommandNode<C>, MemoizedNode<C, S>> previous;
+        private final Map<CommandNode<C>, MemoizedNode<C, S>> built = new IdentityHashMap<>();
+
+        private NodeMemo(
+                final @NonNull Command<S> executor,
+                final @NonNull BrigadierPermissionChecker<C> permissionChecker,
+                final boolean forceExecutable,
+                final boolean memoizePermissions,
+                final @NonNull Map<CommandNode<C>, MemoizedNode<C, S>> previous
+        ) {
+            this.executor = executor;
+            this.permissionChecker = permissionChecker;
+            this.forceExecutable = forceExecutable;
+            this.memoizePermissions = memoizePermissions;
+            this.previous = previous;
+        }
+
+        private boolean compatible(
+                final @NonNull Command<S> executor,
+                final @NonNull BrigadierPermissionChecker<C> permissionChecker,
+                final boolean forceExecutable,
+                final boolean memoizePermissions
+        ) {
+            return this.executor == executor
+                    && this.permissionChecker == permissionChecker
+                    && this.forceExecutable == forceExecutable
+                    && this.memoizePermissions == memoizePermissions;
+        }
+
+        private com.mojang.brigadier.tree.@Nullable CommandNode<S> reuse(
+                final @NonNull CommandNode<C> node,
+                final @NonNull Set<String> siblingLiterals,
+                final @NonNull List<com.mojang.brigadier.tree.CommandNode<S>> children
+        ) {
+            final @Nullable MemoizedNode<C, S> memoized = this.previous.get(node);
+            if (memoized == null || !memoized.matches(node, siblingLiterals, children)) {
+                return null;
+            }
+            this.built.put(node, memoized);
+            return memoized.node;
+        }
+
+        private void store(
+                final @NonNull CommandNode<C> node,
+                final @NonNull Set<String> siblingLiterals,
+                final @NonNull List<com.mojang.brigadier.tree.CommandNode<S>> children,
+                final com.mojang.brigadier.tree.@NonNull CommandNode<S> constructed
+        ) {
+            this.built.put(
+                    node,
+                    new MemoizedNode<>(node.component(), node.command(), siblingLiterals, children, constructed)
+            );
+        }
+    }
+
+
+    private static final class MemoizedNode<C, S> {
+
+        private final CommandComponent<C> component;
+        private final org.incendo.cloud.@Nullable Command<C> command;
+        private final Set<String> siblingLiterals;
+        private final List<com.mojang.brigadier.tree.CommandNode<S>> children;
+        private final com.mojang.brigadier.tree.CommandNode<S> node;
+
+        private MemoizedNode(
+                final @NonNull CommandComponent<C> component,
+                final org.incendo.cloud.@Nullable Command<C> command,
+                final @NonNull Set<String> siblingLiterals,
+                final @NonNull List<com.mojang.brigadier.tree.CommandNode<S>> children,
+                final com.mojang.brigadier.tree.@NonNull CommandNode<S> node
+        ) {
+            this.component = component;
+            this.command = command;
+            this.siblingLiterals = siblingLiterals;
+            this.children = children;
+            this.node = node;
+        }
+
+        private boolean matches(
+                final @NonNull CommandNode<C> cloudNode,
+                final @NonNull Set<String> siblingLiterals,
+                final @NonNull List<com.mojang.brigadier.tree.CommandNode<S>> children
+        ) {
+            if (this.component != cloudNode.component()
+                    || this.command != cloudNode.command()
+                    || !this.siblingLiterals.equals(siblingLiterals)
+                    || this.children.size() != children.size()) {
+                return false;
+            }
+            for (int i = 0; i < children.size(); i++) {
+                if (this.children.get(i) != children.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
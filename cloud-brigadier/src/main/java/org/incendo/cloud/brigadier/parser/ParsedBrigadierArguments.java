@@ -0,0 +1,184 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.parser;
+
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.context.StringRange;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import com.mojang.brigadier.tree.CommandNode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.brigadier.BrigadierSetting;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.key.CloudKey;
+import org.incendo.cloud.type.tuple.Pair;
+
+/**
+ * The arguments that were parsed by Brigadier before the command was handed over to cloud, see
+ * {@link BrigadierSetting#REUSE_PARSED_ARGUMENTS}.
+ * <p>
+ * {@link WrappedBrigadierParser Wrapped parsers} take the value parsed by Brigadier if their argument type parsed
+ * the same text at the same position of the input, instead of parsing it again.
+ * <p>
+ * The argument type of the wrapped parser must be the instance that was registered in the Brigadier tree, or equal to
+ * it. Parsers whose type supplier creates a new instance each time only benefit from this if the argument type
+ * implements {@link Object#equals(Object)}, otherwise they parse the input again.
+ *
+ * @since 2.1.0
+ */
+@API(status = API.Status.INTERNAL, since = "2.1.0")
+public final class ParsedBrigadierArguments {
+
+    /**
+     * The key used to store the parsed arguments in the cloud command context.
+     */
+    public static final CloudKey<ParsedBrigadierArguments> KEY = CloudKey.of(
+            "_cloud_brigadier_parsed_arguments",
+            ParsedBrigadierArguments.class
+    );
+
+    private final String input;
+    private final List<Argument> arguments;
+
+    private ParsedBrigadierArguments(final @NonNull String input, final @NonNull List<Argument> arguments) {
+        this.input = input;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Collects the arguments parsed by Brigadier for the given {@code nodes}.
+     *
+     * @param <S>     Brigadier sender type
+     * @param context the Brigadier command context
+     * @param nodes   the parsed nodes of the context
+     * @return the parsed arguments, or {@code null} if none of the nodes are argument nodes
+     */
+    public static <S> @Nullable ParsedBrigadierArguments of(
+            final com.mojang.brigadier.context.@NonNull CommandContext<S> context,
+            final @NonNull List<Pair<CommandNode<S>, StringRange>> nodes
+    ) {
+        @Nullable List<Argument> arguments = null;
+        final Set<String> names = new HashSet<>();
+        final Set<String> duplicates = new HashSet<>();
+        for (final Pair<CommandNode<S>, StringRange> node : nodes) {
+            if (node.first() instanceof ArgumentCommandNode && !names.add(node.first().getName())) {
+                duplicates.add(node.first().getName());
+            }
+        }
+        for (final Pair<CommandNode<S>, StringRange> node : nodes) {
+            if (!(node.first() instanceof ArgumentCommandNode) || duplicates.contains(node.first().getName())) {
+                // Brigadier stores the arguments by name, we cannot tell which node produced a duplicate name
+                continue;
+            }
+            final ArgumentCommandNode<S, ?> argumentNode = (ArgumentCommandNode<S, ?>) node.first();
+            if (arguments == null) {
+                arguments = new ArrayList<>(nodes.size());
+            }
+            arguments.add(new Argument(
+                    argumentNode.getType(),
+                    node.second(),
+                    context.getArgument(argumentNode.getName(), Object.class)
+            ));
+        }
+        if (arguments == null) {
+            return null;
+        }
+        return new ParsedBrigadierArguments(context.getInput(), Collections.unmodifiableList(arguments));
+    }
+
+    /**
+     * Returns the argument parsed by the given {@code argumentType} at the current position of the {@code commandInput},
+     * if any.
+     * <p>
+     * The position is matched by comparing the remaining input, as the cloud input may differ from the Brigadier
+     * input before the first argument, for example when the namespace is removed. The argument type must be the same
+     * instance as, or equal to, the type of the Brigadier node that parsed the argument.
+     *
+     * @param argumentType the argument type
+     * @param commandInput the command input
+     * @return the argument, or {@code null}
+     */
+    public @Nullable Argument find(final @NonNull ArgumentType<?> argumentType, final @NonNull CommandInput commandInput) {
+        final String cloudInput = commandInput.input();
+        final int cursor = commandInput.cursor();
+        final int remaining = cloudInput.length() - cursor;
+        for (final Argument argument : this.arguments) {
+            final int start = argument.range.getStart();
+            if (this.input.length() - start == remaining
+                    && (argument.type == argumentType || argument.type.equals(argumentType))
+                    && this.input.regionMatches(start, cloudInput, cursor, remaining)) {
+                return argument;
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * An argument parsed by Brigadier.
+     *
+     * @since 2.1.0
+     */
+    @API(status = API.Status.INTERNAL, since = "2.1.0")
+    public static final class Argument {
+
+        private final ArgumentType<?> type;
+        private final StringRange range;
+        private final Object value;
+
+        private Argument(
+                final @NonNull ArgumentType<?> type,
+                final @NonNull StringRange range,
+                final @NonNull Object value
+        ) {
+            this.type = type;
+            this.range = range;
+            this.value = value;
+        }
+
+        /**
+         * Returns the number of characters consumed by the argument.
+         *
+         * @return the length
+         */
+        public int length() {
+            return this.range.getLength();
+        }
+
+        /**
+         * Returns the parsed value.
+         *
+         * @return the value
+         */
+        public @NonNull Object value() {
+            return this.value;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -97,6 +98,30 @@ public class WrappedBrigadierParser<C, T> implements ArgumentParser<C, T>, Sugge
         this.parse = parse;
     }
 
+    /**
+     * Returns a supplier that holds on to the argument type created by the {@code factory}, and only creates a new one
+     * once the {@code key} supplier returns a different (non-identical) key.
+     * <p>
+     * This is intended for argument types that are expensive to construct, and depend on state that rarely changes,
+     * such as the registries of the server. The key supplier is invoked on every access and should be cheap.
+     *
+     * @param <T>     value type
+     * @param <K>     key type
+     * @param key     supplier of the key that the argument type depends on
+     * @param factory factory creating the argument type for a key
+     * @return the caching argument type supplier
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    public static <T, K> @NonNull Supplier<ArgumentType<T>> cachedArgumentType(
+            final @NonNull Supplier<@NonNull K> key,
+            final @NonNull Function<@NonNull K, @NonNull ArgumentType<T>> factory
+    ) {
+        requireNonNull(key, "key");
+        requireNonNull(factory, "factory");
+        return new CachedArgumentTypeSupplier<>(key, factory);
+    }
+
     /**
      * Returns the backing Brigadier {@link ArgumentType} for this parser.
      *
@@ -108,10 +133,24 @@ public class WrappedBrigadierParser<C, T> implements ArgumentParser<C, T>, Sugge
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public final @NonNull ArgumentParseResult<@NonNull T> parse(
             final @NonNull CommandContext<@NonNull C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
+        if (this.parse == null) {
+            final @Nullable ParsedBrigadierArguments parsedArguments =
+                    commandContext.getOrDefault(ParsedBrigadierArguments.KEY, null);
+            if (parsedArguments != null) {
+                final ParsedBrigadierArguments.@Nullable Argument argument =
+                        parsedArguments.find(this.nativeType.get(), commandInput);
+                if (argument != null) {
+                    commandInput.moveCursor(argument.length());
+                    return ArgumentParseResult.success((T) argument.value());
+                }
+            }
+        }
+
         // Convert to a brig reader
         final StringReader reader = CloudStringReader.of(commandInput);
 
@@ -173,6 +212,44 @@ public class WrappedBrigadierParser<C, T> implements ArgumentParser<C, T>, Sugge
         });
     }
 
+    private static final class CachedArgumentTypeSupplier<T, K> implements Supplier<ArgumentType<T>> {
+
+        private final Supplier<K> key;
+        private final Function<K, ArgumentType<T>> factory;
+        private volatile @Nullable CachedArgumentType<T, K> cached;
+
+        private CachedArgumentTypeSupplier(
+                final @NonNull Supplier<K> key,
+                final @NonNull Function<K, ArgumentType<T>> factory
+        ) {
+            this.key = key;
+            this.factory = factory;
+        }
+
+        @Override
+        public ArgumentType<T> get() {
+            final K key = this.key.get();
+            final @Nullable CachedArgumentType<T, K> cached = this.cached;
+            if (cached != null && cached.key == key) {
+                return cached.argumentType;
+            }
+            final ArgumentType<T> argumentType = this.factory.apply(key);
+            this.cached = new CachedArgumentType<>(key, argumentType);
+            return argumentType;
+        }
+    }
+
+    private static final class CachedArgumentType<T, K> {
+
+        private final K key;
+        private final ArgumentType<T> argumentType;
+
+        private CachedArgumentType(final @NonNull K key, final @NonNull ArgumentType<T> argumentType) {
+            this.key = key;
+            this.argumentType = argumentType;
+        }
+    }
+
     /**
      * Function which can call {@link ArgumentType#parse(StringReader)} or another method.
      *
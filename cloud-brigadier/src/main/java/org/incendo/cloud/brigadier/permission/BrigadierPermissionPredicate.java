@@ -24,12 +24,18 @@
 package org.incendo.cloud.brigadier.permission;
 
 import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Type;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.SenderMapper;
 import org.incendo.cloud.internal.CommandNode;
 import org.incendo.cloud.permission.Permission;
@@ -37,9 +43,22 @@ import org.incendo.cloud.permission.Permission;
 @API(status = API.Status.INTERNAL, since = "2.0.0")
 public final class BrigadierPermissionPredicate<C, S> implements Predicate<S> {
 
+    /**
+     * Caches the results of {@link GenericTypeReflector#isSuperType(Type, Type)} for the sender types used in access maps,
+     * per sender class.
+     */
+    private static final ClassValue<Map<Type, Boolean>> SENDER_TYPES = new ClassValue<Map<Type, Boolean>>() {
+        @Override
+        protected Map<Type, Boolean> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final ThreadLocal<PermissionMemo> MEMO = new ThreadLocal<>();
+
     private final SenderMapper<S, C> senderMapper;
     private final BrigadierPermissionChecker<C> permissionChecker;
     private final CommandNode<?> node;
+    private final boolean memoize;
 
     /**
      * Returns a new predicate that uses the given {@code permissionChecker} to evaluate the permission attached
@@ -53,24 +72,146 @@ public final class BrigadierPermissionPredicate<C, S> implements Predicate<S> {
         final @NonNull SenderMapper<S, C> senderMapper,
         final @NonNull BrigadierPermissionChecker<C> permissionChecker,
         final @NonNull CommandNode<?> node
+    ) {
+        this(senderMapper, permissionChecker, node, false);
+    }
+
+    /**
+     * Returns a new predicate that uses the given {@code permissionChecker} to evaluate the permission attached
+     * to the given {@code node}.
+     * <p>
+     * If {@code memoize} is {@code true}, the results are shared between all memoizing predicates that are tested
+     * consecutively for the same source on the same thread, as happens when a command tree is sent to a player.
+     * The results are discarded as soon as another source is tested, or a root command node is tested again for the
+     * same source, which starts the next walk of the tree.
+     *
+     * @param senderMapper      mapper from brig source to cloud sender
+     * @param permissionChecker the permission checker
+     * @param node              the cloud command node
+     * @param memoize           whether to memoize the results for the source that is being tested
+     * @since 2.1.0
+     */
+    @API(status = API.Status.INTERNAL, since = "2.1.0")
+    public BrigadierPermissionPredicate(
+        final @NonNull SenderMapper<S, C> senderMapper,
+        final @NonNull BrigadierPermissionChecker<C> permissionChecker,
+        final @NonNull CommandNode<?> node,
+        final boolean memoize
     ) {
         this.senderMapper = senderMapper;
         this.permissionChecker = permissionChecker;
         this.node = node;
+        this.memoize = memoize;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public boolean test(final @NonNull S source) {
-        final C cloudSender = this.senderMapper.map(source);
         final Map<Type, Permission> accessMap =
             this.node.nodeMeta().getOrDefault(CommandNode.META_KEY_ACCESS, Collections.emptyMap());
+        if (!this.memoize) {
+            return this.test(this.senderMapper.map(source), accessMap, null);
+        }
+
+        final boolean root = this.isRoot();
+        @Nullable PermissionMemo memo = MEMO.get();
+        @Nullable Object sender = memo == null ? null : memo.sender(source);
+        if (memo == null || sender == null || (root && !memo.enterRoot(this.node))) {
+            sender = this.senderMapper.map(source);
+            memo = new PermissionMemo(source, sender);
+            if (root) {
+                memo.enterRoot(this.node);
+            }
+            MEMO.set(memo);
+        }
+        return this.test((C) sender, accessMap, memo.results(this.permissionChecker));
+    }
+
+    private boolean isRoot() {
+        final @Nullable CommandNode<?> parent = this.node.parent();
+        return parent == null || parent.component() == null;
+    }
+
+    private boolean test(
+        final @NonNull C cloudSender,
+        final @NonNull Map<Type, Permission> accessMap,
+        final @Nullable Map<Permission, Boolean> results
+    ) {
+        final Class<?> senderClass = cloudSender.getClass();
+        final Map<Type, Boolean> senderTypes = SENDER_TYPES.get(senderClass);
         for (final Map.Entry<Type, Permission> entry : accessMap.entrySet()) {
-            if (GenericTypeReflector.isSuperType(entry.getKey(), cloudSender.getClass())) {
-                if (this.permissionChecker.hasPermission(cloudSender, entry.getValue())) {
-                    return true;
-                }
+            @Nullable Boolean applicable = senderTypes.get(entry.getKey());
+            if (applicable == null) {
+                applicable = GenericTypeReflector.isSuperType(entry.getKey(), senderClass);
+                senderTypes.put(entry.getKey(), applicable);
+            }
+            if (applicable && this.hasPermission(cloudSender, entry.getValue(), results)) {
+                return true;
             }
         }
         return false;
     }
+
+    private boolean hasPermission(
+        final @NonNull C cloudSender,
+        final @NonNull Permission permission,
+        final @Nullable Map<Permission, Boolean> results
+    ) {
+        if (results == null) {
+            return this.permissionChecker.hasPermission(cloudSender, permission);
+        }
+        final @Nullable Boolean result = results.get(permission);
+        if (result != null) {
+            return result;
+        }
+        final boolean allowed = this.permissionChecker.hasPermission(cloudSender, permission);
+        results.put(permission, allowed);
+        return allowed;
+    }
+
+
+    /**
+     * The results for a single source, from the first root node that is tested for it until the same root node is
+     * tested again. The source and sender are only referenced weakly, so that the memo that remains on the thread
+     * after a tree has been sent does not retain them.
+     */
+    private static final class PermissionMemo {
+
+        private final WeakReference<Object> source;
+        private final WeakReference<Object> sender;
+        private final Set<CommandNode<?>> roots = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<BrigadierPermissionChecker<?>, Map<Permission, Boolean>> results = new IdentityHashMap<>();
+
+        private PermissionMemo(final @NonNull Object source, final @NonNull Object sender) {
+            this.source = new WeakReference<>(source);
+            this.sender = new WeakReference<>(sender);
+        }
+
+        /**
+         * Returns the mapped sender if this memo belongs to the given {@code source}.
+         *
+         * @param source the source that is being tested
+         * @return the mapped sender, or {@code null} if the memo belongs to another source or has been cleared
+         */
+        private @Nullable Object sender(final @NonNull Object source) {
+            if (this.source.get() != source) {
+                return null;
+            }
+            return this.sender.get();
+        }
+
+        /**
+         * Records that the given root node is being tested.
+         *
+         * @param root the root node
+         * @return {@code false} if the root has been tested before, which means that a new walk of the tree has started
+         */
+        private boolean enterRoot(final @NonNull CommandNode<?> root) {
+            return this.roots.add(root);
+        }
+
+        private @NonNull Map<Permission, Boolean> results(final @NonNull BrigadierPermissionChecker<?> permissionChecker) {
+            return this.results.computeIfAbsent(permissionChecker, checker -> new HashMap<>());
+        }
+    }
 }
@@ -25,23 +25,26 @@ package org.incendo.cloud.brigadier.suggestion;
 
 import com.mojang.brigadier.suggestion.Suggestions;
 import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.brigadier.BrigadierSetting;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.suggestion.SuggestionFactory;
 
-import static org.incendo.cloud.brigadier.CloudBrigadierCommand.parsedNodes;
+import static org.incendo.cloud.brigadier.CloudBrigadierCommand.firstNodeStart;
 
 /**
  * Produces Brigadier suggestions by invoking the Cloud suggestion provider.
@@ -56,6 +59,7 @@ public final class BrigadierSuggestionFactory<C, S> {
     private final CloudBrigadierManager<C, S> cloudBrigadierManager;
     private final CommandManager<C> commandManager;
     private final SuggestionFactory<C, ? extends TooltipSuggestion> suggestionFactory;
+    private volatile @Nullable SuggestionCache<C> suggestionCache;
 
     /**
      * Creates a new suggestion factory.
@@ -86,50 +90,199 @@ public final class BrigadierSuggestionFactory<C, S> {
             final com.mojang.brigadier.context.@NonNull CommandContext<S> senderContext,
             final org.incendo.cloud.internal.@Nullable CommandNode<C> parentNode,
             final @NonNull SuggestionsBuilder builder
+    ) {
+        return this.buildSuggestions(senderContext, parentNode, siblingLiterals(parentNode), builder);
+    }
+
+    /**
+     * Builds suggestions for the given component.
+     * <p>
+     * Suggestions matching any of the {@code siblingLiterals} are removed to avoid duplicates, as Brigadier suggests
+     * the literals itself.
+     *
+     * @param senderContext   the brigadier context
+     * @param parentNode      the parent command node
+     * @param siblingLiterals the aliases of the literal children of the parent node, see
+     *                        {@link #siblingLiterals(org.incendo.cloud.internal.CommandNode)}
+     * @param builder         the suggestion builder to generate suggestions with
+     * @return future that completes with the suggestions
+     * @since 2.1.0
+     */
+    @API(status = API.Status.INTERNAL, since = "2.1.0")
+    public @NonNull CompletableFuture<@NonNull Suggestions> buildSuggestions(
+            final com.mojang.brigadier.context.@NonNull CommandContext<S> senderContext,
+            final org.incendo.cloud.internal.@Nullable CommandNode<C> parentNode,
+            final @NonNull Set<@NonNull String> siblingLiterals,
+            final @NonNull SuggestionsBuilder builder
     ) {
         final C cloudSender = this.cloudBrigadierManager.senderMapper().map(senderContext.getSource());
+
+        final SuggestionCache.@Nullable Key cacheKey;
+        final @Nullable SuggestionCache<C> cache = this.suggestionCache();
+        if (cache != null) {
+            cacheKey = cache.key(builder.getInput().substring(0, builder.getStart()), cloudSender, parentNode);
+            final SuggestionCache.@Nullable Entry cached = cache.get(cacheKey, builder.getInput(), builder.getRemaining());
+            if (cached != null) {
+                return CompletableFuture.completedFuture(this.createSuggestions(builder, cached));
+            }
+        } else {
+            cacheKey = null;
+        }
+
         final CommandContext<C> commandContext = new CommandContext<>(
             true,
             cloudSender,
             this.commandManager
         );
         commandContext.store(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER, senderContext.getSource());
-        String command = builder.getInput()
-            .substring(parsedNodes(senderContext.getLastChild()).get(0).second().getStart());
+        final String input = builder.getInput();
+        final int start = firstNodeStart(senderContext.getLastChild());
 
         /* Remove namespace */
-        final String leading = command.split(" ")[0];
-        if (leading.contains(":")) {
-            command = command.substring(leading.split(":")[0].length() + 1);
+        final int space = input.indexOf(' ', start);
+        final int colon = input.indexOf(':', start);
+        final String command;
+        if (colon != -1 && (space == -1 || colon < space)) {
+            command = input.substring(colon + 1);
+        } else {
+            command = input.substring(start);
         }
 
-        return this.suggestionFactory.suggest(commandContext.sender(), command).thenApply(suggestionsResult -> {
+        final CompletableFuture<? extends org.incendo.cloud.suggestion.Suggestions<C, ? extends TooltipSuggestion>> cloudSuggestions =
+                this.suggestionFactory.suggest(commandContext.sender(), command);
+        final CompletableFuture<Suggestions> brigadierSuggestions = cloudSuggestions.thenApply(suggestionsResult -> {
             /* Filter suggestions that are literal arguments to avoid duplicates, except for root arguments */
-            final List<TooltipSuggestion> suggestions = new ArrayList<>(suggestionsResult.list());
-            if (parentNode != null) {
-                final Set<String> siblingLiterals = parentNode.children().stream()
-                        .map(org.incendo.cloud.internal.CommandNode::component)
-                        .filter(Objects::nonNull)
-                        .filter(c -> c.type() == CommandComponent.ComponentType.LITERAL)
-                        .flatMap(commandComponent -> commandComponent.aliases().stream())
-                        .collect(Collectors.toSet());
-
-                suggestions.removeIf(suggestion -> siblingLiterals.contains(suggestion.suggestion()));
+            final List<? extends TooltipSuggestion> results = suggestionsResult.list();
+            final List<TooltipSuggestion> suggestions;
+            if (siblingLiterals.isEmpty()) {
+                suggestions = new ArrayList<>(results);
+            } else {
+                suggestions = new ArrayList<>(results.size());
+                for (final TooltipSuggestion suggestion : results) {
+                    if (!siblingLiterals.contains(suggestion.suggestion())) {
+                        suggestions.add(suggestion);
+                    }
+                }
             }
 
             final int trimmed = builder.getInput().length() - suggestionsResult.commandInput().length();
             final int rawOffset = suggestionsResult.commandInput().cursor();
-            final SuggestionsBuilder suggestionsBuilder = builder.createOffset(rawOffset + trimmed);
-
-            for (final TooltipSuggestion suggestion : suggestions) {
-                try {
-                    suggestionsBuilder.suggest(Integer.parseInt(suggestion.suggestion()), suggestion.tooltip());
-                } catch (final NumberFormatException e) {
-                    suggestionsBuilder.suggest(suggestion.suggestion(), suggestion.tooltip());
-                }
+            final SuggestionCache.Entry entry = new SuggestionCache.Entry(
+                    builder.getRemaining(),
+                    rawOffset + trimmed,
+                    suggestions
+            );
+            if (cacheKey != null) {
+                cache.put(cacheKey, entry);
             }
+            return this.createSuggestions(builder, entry);
+        });
 
-            return suggestionsBuilder.build();
+        final @Nullable Duration timeout = this.cloudBrigadierManager.suggestionTimeout();
+        if (timeout == null) {
+            return brigadierSuggestions;
+        }
+        brigadierSuggestions.whenComplete((result, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                // The deadline has passed, stop waiting for the cloud suggestions
+                cloudSuggestions.cancel(false);
+            }
         });
+        return SuggestionDeadline.bound(brigadierSuggestions, timeout, builder::build);
+    }
+
+    private @Nullable SuggestionCache<C> suggestionCache() {
+        if (!this.cloudBrigadierManager.settings().get(BrigadierSetting.CACHE_SUGGESTIONS)) {
+            this.suggestionCache = null;
+            return null;
+        }
+        final SuggestionCachePolicy<C> policy = this.cloudBrigadierManager.suggestionCachePolicy();
+        final @Nullable SuggestionCache<C> cache = this.suggestionCache;
+        if (cache != null && cache.policy() == policy) {
+            return cache;
+        }
+        final SuggestionCache<C> newCache = new SuggestionCache<>(policy);
+        this.suggestionCache = newCache;
+        return newCache;
+    }
+
+    private @NonNull Suggestions createSuggestions(
+            final @NonNull SuggestionsBuilder builder,
+            final SuggestionCache.@NonNull Entry entry
+    ) {
+        final SuggestionsBuilder suggestionsBuilder = builder.createOffset(entry.offset());
+        final List<TooltipSuggestion> suggestions = entry.suggestions();
+        for (int i = 0; i < suggestions.size(); i++) {
+            final TooltipSuggestion suggestion = suggestions.get(i);
+            final String text = suggestion.suggestion();
+            if (isInteger(text)) {
+                suggestionsBuilder.suggest(Integer.parseInt(text), suggestion.tooltip());
+            } else {
+                suggestionsBuilder.suggest(text, suggestion.tooltip());
+            }
+        }
+        return suggestionsBuilder.build();
+    }
+
+    /**
+     * Returns the aliases of all literal children of the given {@code parentNode}. Cloud suggestions matching any of
+     * these are removed from the suggestions built for the children of the node, as Brigadier suggests the literals itself.
+     *
+     * @param <C>        command sender type
+     * @param parentNode the parent node, or {@code null} for root arguments
+     * @return immutable set of sibling literals
+     * @since 2.1.0
+     */
+    @API(status = API.Status.INTERNAL, since = "2.1.0")
+    public static <C> @NonNull Set<@NonNull String> siblingLiterals(
+            final org.incendo.cloud.internal.@Nullable CommandNode<C> parentNode
+    ) {
+        if (parentNode == null) {
+            return Collections.emptySet();
+        }
+        final Set<String> siblingLiterals = new HashSet<>();
+        for (final org.incendo.cloud.internal.CommandNode<C> child : parentNode.children()) {
+            final @Nullable CommandComponent<C> component = child.component();
+            if (component != null && component.type() == CommandComponent.ComponentType.LITERAL) {
+                siblingLiterals.addAll(component.aliases());
+            }
+        }
+        return siblingLiterals.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(siblingLiterals);
+    }
+
+    /**
+     * Returns whether {@link Integer#parseInt(String)} would accept the given {@code text}, without
+     * throwing for the common case of non-numeric suggestions.
+     *
+     * @param text the text to test
+     * @return {@code true} if the text is a decimal integer within the range of {@code int}
+     */
+    private static boolean isInteger(final @NonNull String text) {
+        final int length = text.length();
+        if (length == 0) {
+            return false;
+        }
+        int index = 0;
+        final char first = text.charAt(0);
+        final boolean negative = first == '-';
+        if (negative || first == '+') {
+            if (length == 1) {
+                return false;
+            }
+            index = 1;
+        }
+        final long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        for (; index < length; index++) {
+            final int digit = Character.digit(text.charAt(index), 10);
+            if (digit < 0) {
+                return false;
+            }
+            value = value * 10 + digit;
+            if (value > limit) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -28,6 +28,7 @@ import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
 import com.mojang.brigadier.suggestion.Suggestions;
 import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -45,6 +46,7 @@ public final class CloudDelegatingSuggestionProvider<C, S> implements Suggestion
 
     private final BrigadierSuggestionFactory<C, S> brigadierSuggestionFactory;
     private final CommandNode<C> node;
+    private final Set<String> siblingLiterals;
 
     /**
      * Creates a new suggestion provider.
@@ -55,9 +57,28 @@ public final class CloudDelegatingSuggestionProvider<C, S> implements Suggestion
     public CloudDelegatingSuggestionProvider(
             final @NonNull BrigadierSuggestionFactory<C, S> suggestionFactory,
             final @NonNull CommandNode<C> node
+    ) {
+        this(suggestionFactory, node, BrigadierSuggestionFactory.siblingLiterals(node.parent()));
+    }
+
+    /**
+     * Creates a new suggestion provider.
+     *
+     * @param suggestionFactory the factory that produces suggestions
+     * @param node              the node to generate suggestions for
+     * @param siblingLiterals   the aliases of the literal siblings of the node, see
+     *                          {@link BrigadierSuggestionFactory#siblingLiterals(CommandNode)}
+     * @since 2.1.0
+     */
+    @API(status = API.Status.INTERNAL, since = "2.1.0")
+    public CloudDelegatingSuggestionProvider(
+            final @NonNull BrigadierSuggestionFactory<C, S> suggestionFactory,
+            final @NonNull CommandNode<C> node,
+            final @NonNull Set<@NonNull String> siblingLiterals
     ) {
         this.brigadierSuggestionFactory = suggestionFactory;
         this.node = node;
+        this.siblingLiterals = siblingLiterals;
     }
 
     @Override
@@ -68,6 +89,7 @@ public final class CloudDelegatingSuggestionProvider<C, S> implements Suggestion
         return this.brigadierSuggestionFactory.buildSuggestions(
                 context,
                 this.node.parent(),
+                this.siblingLiterals,
                 builder
         );
     }
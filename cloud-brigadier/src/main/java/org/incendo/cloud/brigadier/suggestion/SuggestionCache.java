@@ -0,0 +1,212 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.suggestion;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Bounded cache of the suggestions computed for an argument, see {@link SuggestionCachePolicy}.
+ *
+ * @param <C> command sender type
+ */
+final class SuggestionCache<C> {
+
+    private final SuggestionCachePolicy<C> policy;
+    private final long expireAfterWriteNanos;
+    private final Map<Key, Entry> entries;
+    private long lastPurge = System.nanoTime();
+
+    SuggestionCache(final @NonNull SuggestionCachePolicy<C> policy) {
+        this.policy = policy;
+        this.expireAfterWriteNanos = policy.expireAfterWrite().toNanos();
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75F, true /* accessOrder */) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                return this.size() > policy.maximumSize();
+            }
+        };
+    }
+
+    @NonNull SuggestionCachePolicy<C> policy() {
+        return this.policy;
+    }
+
+    @NonNull Key key(
+            final @NonNull String prefix,
+            final @NonNull C sender,
+            final org.incendo.cloud.internal.@Nullable CommandNode<C> parentNode
+    ) {
+        return new Key(prefix, this.policy.senderFingerprint().apply(sender), parentNode);
+    }
+
+    /**
+     * Returns the cached suggestions for the given {@code key} if they were computed for input that {@code argumentInput}
+     * extends, filtered to the suggestions that match the text following the suggestion offset.
+     *
+     * @param key           the cache key
+     * @param input         the complete input
+     * @param argumentInput the input of the argument that is being completed
+     * @return the suggestions, or {@code null} if no entry could be used
+     */
+    @Nullable Entry get(final @NonNull Key key, final @NonNull String input, final @NonNull String argumentInput) {
+        final Entry entry;
+        synchronized (this.entries) {
+            entry = this.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.created > this.expireAfterWriteNanos) {
+                this.entries.remove(key);
+                return null;
+            }
+        }
+        if (!argumentInput.startsWith(entry.argumentInput) || entry.offset > input.length()) {
+            return null;
+        }
+
+        final String token = input.substring(entry.offset);
+        if (containsWhitespace(token)) {
+            // The input moved past the token that the suggestions were computed for, such as for arguments that span
+            // multiple tokens, so cloud would now suggest for a different position
+            return null;
+        }
+        final List<TooltipSuggestion> filtered = new ArrayList<>(entry.suggestions.size());
+        for (final TooltipSuggestion suggestion : entry.suggestions) {
+            if (suggestion.suggestion().regionMatches(true /* ignoreCase */, 0, token, 0, token.length())) {
+                filtered.add(suggestion);
+            }
+        }
+        return new Entry(argumentInput, entry.offset, filtered, entry.created);
+    }
+
+    private static boolean containsWhitespace(final @NonNull String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (Character.isWhitespace(token.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void put(final @NonNull Key key, final @NonNull Entry entry) {
+        synchronized (this.entries) {
+            this.purgeExpired(entry.created);
+            this.entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes the expired entries, at most once per expiry duration, so that entries that are never requested again
+     * are not kept until they are evicted.
+     *
+     * @param now the current time
+     */
+    private void purgeExpired(final long now) {
+        if (now - this.lastPurge <= this.expireAfterWriteNanos) {
+            return;
+        }
+        this.lastPurge = now;
+        this.entries.values().removeIf(entry -> now - entry.created > this.expireAfterWriteNanos);
+    }
+
+
+    static final class Key {
+
+        private final String prefix;
+        private final Object senderFingerprint;
+        private final org.incendo.cloud.internal.@Nullable CommandNode<?> parentNode;
+
+        private Key(
+                final @NonNull String prefix,
+                final @NonNull Object senderFingerprint,
+                final org.incendo.cloud.internal.@Nullable CommandNode<?> parentNode
+        ) {
+            this.prefix = prefix;
+            this.senderFingerprint = senderFingerprint;
+            this.parentNode = parentNode;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return this.parentNode == key.parentNode
+                    && this.prefix.equals(key.prefix)
+                    && this.senderFingerprint.equals(key.senderFingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.prefix, this.senderFingerprint, System.identityHashCode(this.parentNode));
+        }
+    }
+
+
+    static final class Entry {
+
+        private final String argumentInput;
+        private final int offset;
+        private final List<TooltipSuggestion> suggestions;
+        private final long created;
+
+        Entry(
+                final @NonNull String argumentInput,
+                final int offset,
+                final @NonNull List<TooltipSuggestion> suggestions
+        ) {
+            this(argumentInput, offset, suggestions, System.nanoTime());
+        }
+
+        private Entry(
+                final @NonNull String argumentInput,
+                final int offset,
+                final @NonNull List<TooltipSuggestion> suggestions,
+                final long created
+        ) {
+            this.argumentInput = argumentInput;
+            this.offset = offset;
+            this.suggestions = suggestions;
+            this.created = created;
+        }
+
+        int offset() {
+            return this.offset;
+        }
+
+        @NonNull List<TooltipSuggestion> suggestions() {
+            return this.suggestions;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.suggestion;
+
+import java.time.Duration;
+import java.util.function.Function;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Determines how suggestions are cached when {@link org.incendo.cloud.brigadier.BrigadierSetting#CACHE_SUGGESTIONS} is
+ * enabled.
+ *
+ * <p>Cached suggestions are keyed by the input preceding the argument that is being completed, the parent command node
+ * and the {@link #senderFingerprint() sender fingerprint}. Subsequent requests that extend the input of the argument
+ * are answered by filtering the cached suggestions.</p>
+ *
+ * @param <C> command sender type
+ * @since 2.1.0
+ */
+@API(status = API.Status.STABLE, since = "2.1.0")
+public final class SuggestionCachePolicy<C> {
+
+    private static final SuggestionCachePolicy<?> DEFAULT = new SuggestionCachePolicy<>(
+            1024,
+            Duration.ofSeconds(5),
+            Function.identity()
+    );
+    private static final SuggestionCachePolicy<?> PER_SENDER_TYPE = new SuggestionCachePolicy<>(
+            1024,
+            Duration.ofSeconds(5),
+            Object::getClass
+    );
+
+    /**
+     * Returns the default policy, which keeps up to {@code 1024} entries for {@code 5} seconds per sender.
+     *
+     * @param <C> command sender type
+     * @return the default policy
+     */
+    @SuppressWarnings("unchecked")
+    public static <C> @NonNull SuggestionCachePolicy<C> defaultPolicy() {
+        return (SuggestionCachePolicy<C>) DEFAULT;
+    }
+
+    /**
+     * Returns a policy which keeps up to {@code 1024} entries for {@code 5} seconds per sender type.
+     *
+     * <p>Senders of the same class share cached suggestions, which is only correct if the suggestions do not depend on
+     * the sender, such as on its permissions or on which players it can see. This is useful on platforms that create a
+     * new sender for every suggestion request, where the {@link #defaultPolicy() default policy} rarely hits.</p>
+     *
+     * @param <C> command sender type
+     * @return the policy
+     */
+    @SuppressWarnings("unchecked")
+    public static <C> @NonNull SuggestionCachePolicy<C> perSenderType() {
+        return (SuggestionCachePolicy<C>) PER_SENDER_TYPE;
+    }
+
+    /**
+     * Returns a new policy.
+     *
+     * @param <C>               command sender type
+     * @param maximumSize       the maximum number of cached entries, the least recently used entry is evicted first
+     * @param expireAfterWrite  how long entries are kept after they have been computed
+     * @param senderFingerprint function that maps senders to a key, senders with equal keys share cached suggestions.
+     *                          See {@link #senderFingerprint()}
+     * @return the policy
+     */
+    public static <C> @NonNull SuggestionCachePolicy<C> of(
+            final int maximumSize,
+            final @NonNull Duration expireAfterWrite,
+            final @NonNull Function<@NonNull C, @NonNull Object> senderFingerprint
+    ) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        return new SuggestionCachePolicy<>(
+                maximumSize,
+                requireNonNull(expireAfterWrite, "expireAfterWrite"),
+                requireNonNull(senderFingerprint, "senderFingerprint")
+        );
+    }
+
+    private final int maximumSize;
+    private final Duration expireAfterWrite;
+    private final Function<C, Object> senderFingerprint;
+
+    private SuggestionCachePolicy(
+            final int maximumSize,
+            final @NonNull Duration expireAfterWrite,
+            final @NonNull Function<C, Object> senderFingerprint
+    ) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+        this.senderFingerprint = senderFingerprint;
+    }
+
+    /**
+     * Returns the maximum number of cached entries.
+     *
+     * @return the maximum size
+     */
+    public int maximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Returns how long entries are kept after they have been computed.
+     *
+     * @return the expiry duration
+     */
+    public @NonNull Duration expireAfterWrite() {
+        return this.expireAfterWrite;
+    }
+
+    /**
+     * Returns the function that maps senders to a cache key. The default uses the sender itself.
+     *
+     * <p>The key is held by the cache until the entry expires or is evicted. Senders with equal keys share cached
+     * suggestions, so the key must distinguish all senders that may receive different suggestions.</p>
+     *
+     * @return the fingerprint function
+     */
+    public @NonNull Function<@NonNull C, @NonNull Object> senderFingerprint() {
+        return this.senderFingerprint;
+    }
+}
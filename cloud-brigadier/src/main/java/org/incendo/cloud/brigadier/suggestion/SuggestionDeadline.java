@@ -0,0 +1,143 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.suggestion;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Utilities that bound the time spent waiting for suggestions.
+ *
+ * @since 2.1.0
+ */
+@API(status = API.Status.INTERNAL, since = "2.1.0")
+public final class SuggestionDeadline {
+
+    private SuggestionDeadline() {
+    }
+
+    /**
+     * Returns a future that completes with the result of the given {@code future}, or with the result of the
+     * {@code fallback} if the {@code future} has not completed once the {@code deadline} has passed. In that case the
+     * {@code future} is cancelled.
+     * <p>
+     * If the {@code deadline} is {@code null}, the {@code future} is returned as-is.
+     *
+     * @param <T>      result type
+     * @param future   the future to bound
+     * @param deadline the deadline, or {@code null}
+     * @param fallback supplier of the result to complete with once the deadline has passed
+     * @return the bounded future
+     */
+    public static <T> @NonNull CompletableFuture<T> bound(
+            final @NonNull CompletableFuture<T> future,
+            final @Nullable Duration deadline,
+            final @NonNull Supplier<T> fallback
+    ) {
+        if (deadline == null || future.isDone()) {
+            return future;
+        }
+        final CompletableFuture<T> bounded = new CompletableFuture<>();
+        final ScheduledFuture<?> timeout = Scheduler.INSTANCE.schedule(() -> {
+            if (bounded.complete(fallback.get())) {
+                future.cancel(false);
+            }
+        }, deadline.toNanos(), TimeUnit.NANOSECONDS);
+        future.whenComplete((result, throwable) -> {
+            timeout.cancel(false);
+            if (throwable != null) {
+                bounded.completeExceptionally(throwable);
+            } else {
+                bounded.complete(result);
+            }
+        });
+        return bounded;
+    }
+
+    /**
+     * Waits for the given {@code future} to complete and returns its result. If the {@code future} has not completed
+     * once the {@code deadline} has passed, it is cancelled and the result of the {@code fallback} is returned instead.
+     * <p>
+     * If the {@code deadline} is {@code null}, this waits for the {@code future} indefinitely.
+     *
+     * @param <T>      result type
+     * @param future   the future to wait for
+     * @param deadline the deadline, or {@code null}
+     * @param fallback supplier of the result to return once the deadline has passed
+     * @return the result
+     */
+    public static <T> T await(
+            final @NonNull CompletableFuture<T> future,
+            final @Nullable Duration deadline,
+            final @NonNull Supplier<T> fallback
+    ) {
+        if (deadline == null || future.isDone()) {
+            return future.join();
+        }
+        try {
+            return future.get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            future.cancel(false);
+            return fallback.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            return fallback.get();
+        } catch (final ExecutionException e) {
+            // Consistent with CompletableFuture#join
+            return future.join();
+        }
+    }
+
+
+    private static final class Scheduler {
+
+        private static final ScheduledThreadPoolExecutor INSTANCE = createScheduler();
+
+        private Scheduler() {
+        }
+
+        private static ScheduledThreadPoolExecutor createScheduler() {
+            final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, "cloud-suggestion-deadline");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            // Let the thread exit when idle, so that it does not keep the class loader alive after a reload
+            scheduler.setKeepAliveTime(30L, TimeUnit.SECONDS);
+            scheduler.allowCoreThreadTimeOut(true);
+            return scheduler;
+        }
+    }
+}
@@ -38,7 +38,9 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.Command;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.brigadier.BrigadierSetting;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.brigadier.permission.BrigadierPermissionChecker;
 import org.incendo.cloud.brigadier.suggestion.CloudDelegatingSuggestionProvider;
 import org.incendo.cloud.execution.ExecutionCoordinator;
 import org.incendo.cloud.internal.CommandRegistrationHandler;
@@ -61,17 +63,18 @@ class LiteralBrigadierNodeFactoryTest {
 
     private CommandDispatcher<Object> dispatcher;
     private TestCommandManager commandManager;
+    private CloudBrigadierManager<Object, Object> cloudBrigadierManager;
     private LiteralBrigadierNodeFactory<Object, Object> literalBrigadierNodeFactory;
 
     @BeforeEach
     void setup() {
         this.dispatcher = new CommandDispatcher<>();
         this.commandManager = new TestCommandManager();
-        final CloudBrigadierManager<Object, Object> cloudBrigadierManager = new CloudBrigadierManager<>(
+        this.cloudBrigadierManager = new CloudBrigadierManager<>(
                 this.commandManager,
                 SenderMapper.identity()
         );
-        this.literalBrigadierNodeFactory = cloudBrigadierManager.literalBrigadierNodeFactory();
+        this.literalBrigadierNodeFactory = this.cloudBrigadierManager.literalBrigadierNodeFactory();
     }
 
     @Test
@@ -212,6 +215,74 @@ class LiteralBrigadierNodeFactoryTest {
         assertThat(booleanArgument.getCommand()).isEqualTo(brigadierCommand);
     }
 
+    @Test
+    void testEqualArgumentTypesAreShared() {
+        // Arrange
+        final Command<Object> first = this.commandManager.commandBuilder("first")
+                .required("integer", integerParser(0, 10))
+                .build();
+        final Command<Object> second = this.commandManager.commandBuilder("second")
+                .required("integer", integerParser(0, 10))
+                .build();
+        this.commandManager.command(first).command(second);
+        final com.mojang.brigadier.Command<Object> brigadierCommand = ctx -> 0;
+
+        // Act
+        final LiteralCommandNode<Object> firstNode = this.literalBrigadierNodeFactory.createNode(
+                "first",
+                first,
+                brigadierCommand
+        );
+        final LiteralCommandNode<Object> secondNode = this.literalBrigadierNodeFactory.createNode(
+                "second",
+                second,
+                brigadierCommand
+        );
+
+        // Assert
+        final ArgumentCommandNode<Object, ?> firstInteger = (ArgumentCommandNode<Object, ?>) firstNode.getChild("integer");
+        final ArgumentCommandNode<Object, ?> secondInteger = (ArgumentCommandNode<Object, ?>) secondNode.getChild("integer");
+        assertThat(firstInteger.getType()).isSameInstanceAs(secondInteger.getType());
+    }
+
+    @Test
+    void testReuseUnchangedNodes() {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.REUSE_UNCHANGED_NODES, true);
+        this.commandManager.command(this.commandManager.commandBuilder("command")
+                .literal("first")
+                .required("integer", integerParser(0, 10)));
+        this.commandManager.command(this.commandManager.commandBuilder("command")
+                .literal("second")
+                .required("boolean", booleanParser()));
+        final com.mojang.brigadier.Command<Object> brigadierCommand = ctx -> 0;
+        final BrigadierPermissionChecker<Object> permissionChecker = (sender, permission) -> true;
+        final LiteralCommandNode<Object> initialNode = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                this.commandManager.commandTree().getNamedNode("command"),
+                brigadierCommand,
+                permissionChecker
+        );
+
+        // Act
+        this.commandManager.command(this.commandManager.commandBuilder("command")
+                .literal("second")
+                .literal("nested"));
+        final LiteralCommandNode<Object> rebuiltNode = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                this.commandManager.commandTree().getNamedNode("command"),
+                brigadierCommand,
+                permissionChecker
+        );
+
+        // Assert
+        assertThat(rebuiltNode.getChild("first")).isSameInstanceAs(initialNode.getChild("first"));
+        assertThat(rebuiltNode.getChild("second")).isNotSameInstanceAs(initialNode.getChild("second"));
+        assertThat(rebuiltNode.getChild("second").getChild("boolean"))
+                .isSameInstanceAs(initialNode.getChild("second").getChild("boolean"));
+        assertThat(rebuiltNode.getChild("second").getChildren()).hasSize(2);
+    }
+
 
     private static final class TestCommandManager extends CommandManager<Object> {
 
@@ -0,0 +1,141 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.parser;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.brigadier.CloudBrigadierCommand;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class WrappedBrigadierParserTest {
+
+    private CountingArgumentType dispatcherType;
+    private CommandContext<Object> commandContext;
+
+    @BeforeEach
+    void setup() throws CommandSyntaxException {
+        this.dispatcherType = new CountingArgumentType();
+        final CommandDispatcher<Object> dispatcher = new CommandDispatcher<>();
+        dispatcher.register(LiteralArgumentBuilder.<Object>literal("command")
+                .then(RequiredArgumentBuilder.<Object, Integer>argument("value", this.dispatcherType).executes(ctx -> 0)));
+        final com.mojang.brigadier.context.CommandContext<Object> brigadierContext =
+                dispatcher.parse("command 5", new Object()).getContext().build("command 5");
+
+        this.commandContext = new CommandContext<>(new Object(), new TestCommandManager());
+        this.commandContext.store(
+                ParsedBrigadierArguments.KEY,
+                ParsedBrigadierArguments.of(brigadierContext, CloudBrigadierCommand.parsedNodes(brigadierContext))
+        );
+    }
+
+    @Test
+    void testReusesValueParsedByDispatcher() {
+        // Arrange
+        final WrappedBrigadierParser<Object, Integer> parser = new WrappedBrigadierParser<>(this.dispatcherType);
+        final CommandInput commandInput = CommandInput.of("command 5");
+        commandInput.moveCursor(8);
+
+        // Act
+        final ArgumentParseResult<Integer> result = parser.parse(this.commandContext, commandInput);
+
+        // Assert
+        assertThat(result.parsedValue()).hasValue(5);
+        assertThat(commandInput.remainingInput()).isEmpty();
+        assertThat(this.dispatcherType.parses).isEqualTo(1);
+    }
+
+    @Test
+    void testParsesAgainForDifferentArgumentType() {
+        // Arrange
+        final CountingArgumentType otherType = new CountingArgumentType();
+        final WrappedBrigadierParser<Object, Integer> parser = new WrappedBrigadierParser<>(() -> otherType);
+        final CommandInput commandInput = CommandInput.of("command 5");
+        commandInput.moveCursor(8);
+
+        // Act
+        final ArgumentParseResult<Integer> result = parser.parse(this.commandContext, commandInput);
+
+        // Assert
+        assertThat(result.parsedValue()).hasValue(5);
+        assertThat(commandInput.remainingInput()).isEmpty();
+        assertThat(otherType.parses).isEqualTo(1);
+    }
+
+    @Test
+    void testParsesAgainForDifferentRange() {
+        // Arrange
+        final WrappedBrigadierParser<Object, Integer> parser = new WrappedBrigadierParser<>(this.dispatcherType);
+        final CommandInput commandInput = CommandInput.of("command 7");
+        commandInput.moveCursor(8);
+
+        // Act
+        final ArgumentParseResult<Integer> result = parser.parse(this.commandContext, commandInput);
+
+        // Assert
+        assertThat(result.parsedValue()).hasValue(7);
+        assertThat(commandInput.remainingInput()).isEmpty();
+        assertThat(this.dispatcherType.parses).isEqualTo(2);
+    }
+
+
+    /**
+     * Integer argument type that counts how often it parsed input, and is only equal to itself.
+     */
+    private static final class CountingArgumentType implements ArgumentType<Integer> {
+
+        private int parses;
+
+        @Override
+        public Integer parse(final StringReader reader) throws CommandSyntaxException {
+            this.parses++;
+            return reader.readInt();
+        }
+    }
+
+    private static final class TestCommandManager extends CommandManager<Object> {
+
+        private TestCommandManager() {
+            super(ExecutionCoordinator.simpleCoordinator(), CommandRegistrationHandler.nullCommandRegistrationHandler());
+        }
+
+        @Override
+        public boolean hasPermission(final @NonNull Object sender, final @NonNull String permission) {
+            return true;
+        }
+    }
+}
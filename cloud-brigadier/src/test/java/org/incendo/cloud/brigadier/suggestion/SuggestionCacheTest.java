@@ -0,0 +1,149 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.suggestion;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class SuggestionCacheTest {
+
+    @Test
+    void testFiltersCachedSuggestions() {
+        // Arrange
+        final SuggestionCache<Object> cache = new SuggestionCache<>(SuggestionCachePolicy.defaultPolicy());
+        final Object sender = new Object();
+        final SuggestionCache.Key key = cache.key("command ", sender, null);
+        cache.put(key, new SuggestionCache.Entry(
+                "s",
+                8,
+                Arrays.asList(
+                        TooltipSuggestion.suggestion("some", null),
+                        TooltipSuggestion.suggestion("Suggestions", null),
+                        TooltipSuggestion.suggestion("summer", null)
+                )
+        ));
+
+        // Act
+        final SuggestionCache.Entry entry = cache.get(cache.key("command ", sender, null), "command su", "su");
+
+        // Assert
+        assertThat(entry).isNotNull();
+        assertThat(entry.offset()).isEqualTo(8);
+        assertThat(entry.suggestions()).containsExactly(
+                TooltipSuggestion.suggestion("Suggestions", null),
+                TooltipSuggestion.suggestion("summer", null)
+        );
+    }
+
+    @Test
+    void testDoesNotServeDivergingInput() {
+        // Arrange
+        final SuggestionCache<Object> cache = new SuggestionCache<>(
+                SuggestionCachePolicy.of(16, Duration.ofMinutes(1), Function.identity())
+        );
+        final Object sender = new Object();
+        cache.put(cache.key("command ", sender, null), new SuggestionCache.Entry(
+                "su",
+                8,
+                Arrays.asList(TooltipSuggestion.suggestion("summer", null))
+        ));
+
+        // Act & Assert
+        assertThat(cache.get(cache.key("command ", sender, null), "command s", "s")).isNull();
+        assertThat(cache.get(cache.key("command ", new Object(), null), "command sum", "sum")).isNull();
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        // Arrange
+        final SuggestionCache<Object> cache = new SuggestionCache<>(
+                SuggestionCachePolicy.of(1, Duration.ofMinutes(1), Function.identity())
+        );
+        final Object sender = new Object();
+        cache.put(cache.key("first ", sender, null), new SuggestionCache.Entry("", 6, Collections.emptyList()));
+
+        // Act
+        cache.put(cache.key("second ", sender, null), new SuggestionCache.Entry("", 7, Collections.emptyList()));
+
+        // Assert
+        assertThat(cache.get(cache.key("first ", sender, null), "first ", "")).isNull();
+        assertThat(cache.get(cache.key("second ", sender, null), "second ", "")).isNotNull();
+    }
+
+    @Test
+    void testDefaultPolicyDoesNotShareBetweenSenders() {
+        // Arrange
+        final SuggestionCache<Object> cache = new SuggestionCache<>(SuggestionCachePolicy.defaultPolicy());
+        final Object sender = new Object();
+        cache.put(cache.key("command ", sender, null), new SuggestionCache.Entry(
+                "",
+                8,
+                Arrays.asList(TooltipSuggestion.suggestion("summer", null))
+        ));
+
+        // Act & Assert
+        assertThat(cache.get(cache.key("command ", sender, null), "command s", "s")).isNotNull();
+        assertThat(cache.get(cache.key("command ", new Object(), null), "command s", "s")).isNull();
+    }
+
+    @Test
+    void testPerSenderTypePolicySharesBetweenSendersOfSameType() {
+        // Arrange
+        final SuggestionCache<Object> cache = new SuggestionCache<>(SuggestionCachePolicy.perSenderType());
+        cache.put(cache.key("command ", new Object(), null), new SuggestionCache.Entry(
+                "",
+                8,
+                Arrays.asList(TooltipSuggestion.suggestion("summer", null))
+        ));
+
+        // Act & Assert
+        assertThat(cache.get(cache.key("command ", new Object(), null), "command s", "s")).isNotNull();
+        assertThat(cache.get(cache.key("command ", "sender", null), "command s", "s")).isNull();
+    }
+
+    @Test
+    void testDoesNotServeInputPastWhitespace() {
+        // Arrange
+        final SuggestionCache<Object> cache = new SuggestionCache<>(SuggestionCachePolicy.defaultPolicy());
+        final Object sender = new Object();
+        cache.put(cache.key("tp ", sender, null), new SuggestionCache.Entry(
+                "",
+                3,
+                Arrays.asList(TooltipSuggestion.suggestion("~", null), TooltipSuggestion.suggestion("~ ~ ~", null))
+        ));
+
+        // Act
+        final SuggestionCache.Entry sameToken = cache.get(cache.key("tp ", sender, null), "tp ~", "~");
+        final SuggestionCache.Entry nextToken = cache.get(cache.key("tp ", sender, null), "tp ~ ", "~ ");
+
+        // Assert
+        assertThat(sameToken).isNotNull();
+        assertThat(nextToken).isNull();
+    }
+}
@@ -38,8 +38,11 @@ import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.Command;
+import org.incendo.cloud.brigadier.suggestion.SuggestionDeadline;
 import org.incendo.cloud.bukkit.internal.BukkitHelper;
 import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.internal.CommandNode;
 import org.incendo.cloud.permission.Permission;
 import org.incendo.cloud.suggestion.Suggestion;
@@ -85,9 +88,16 @@ final class BukkitCommand<C> extends org.bukkit.command.Command implements Plugi
         for (final String string : args) {
             builder.append(" ").append(string);
         }
-        final Suggestions<C, ?> result = this.manager.suggestionFactory().suggestImmediately(
-                this.manager.senderMapper().map(sender),
-                builder.toString()
+        final C cloudSender = this.manager.senderMapper().map(sender);
+        final String input = builder.toString();
+        final Suggestions<C, ?> result = SuggestionDeadline.await(
+                this.manager.suggestionFactory().suggest(cloudSender, input),
+                this.manager.suggestionTimeout(),
+                () -> Suggestions.create(
+                        new CommandContext<>(cloudSender, this.manager),
+                        Collections.emptyList(),
+                        CommandInput.of(input)
+                )
         );
         return result.list().stream()
                 .map(Suggestion::suggestion)
@@ -23,6 +23,10 @@
 //
 package org.incendo.cloud.bukkit;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import org.apiguardian.api.API;
@@ -37,6 +41,10 @@ import org.incendo.cloud.SenderMapper;
 import org.incendo.cloud.SenderMapperHolder;
 import org.incendo.cloud.brigadier.BrigadierManagerHolder;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.bukkit.internal.CommandTreeResender;
+import org.incendo.cloud.bukkit.internal.OfflinePlayerCache;
+import org.incendo.cloud.bukkit.internal.PlayerNameIndex;
+import org.incendo.cloud.bukkit.internal.SelectorResultCache;
 import org.incendo.cloud.execution.ExecutionCoordinator;
 import org.incendo.cloud.internal.CommandRegistrationHandler;
 import org.incendo.cloud.state.RegistrationState;
@@ -53,6 +61,9 @@ public abstract class BukkitCommandManager<C> extends CommandManager<C> implemen
     private final SenderMapper<CommandSender, C> senderMapper;
 
     private boolean splitAliases = false;
+    private volatile @Nullable Duration suggestionTimeout;
+    private volatile @Nullable SelectorResultCache selectorResultCache;
+    private final CommandTreeResender commandTreeResender;
 
     /**
      * Create a new Bukkit command manager. {@link BukkitCommandManager} is not intended to be created and used directly.
@@ -88,6 +99,7 @@ public abstract class BukkitCommandManager<C> extends CommandManager<C> implemen
         }
         this.owningPlugin = owningPlugin;
         this.senderMapper = senderMapper;
+        this.commandTreeResender = new CommandTreeResender(() -> this.owningPlugin);
 
         /* Register capabilities */
         CloudBukkitCapabilities.CAPABLE.forEach(this::registerCapability);
@@ -103,6 +115,8 @@ public abstract class BukkitCommandManager<C> extends CommandManager<C> implemen
                 new CloudBukkitListener<>(this),
                 this.owningPlugin
         );
+        PlayerNameIndex.instance().install(this.owningPlugin);
+        OfflinePlayerCache.instance().install(this.owningPlugin);
 
         this.registerDefaultExceptionHandlers();
         this.captionRegistry().registerProvider(new BukkitDefaultCaptionsProvider<>());
@@ -126,6 +140,124 @@ public abstract class BukkitCommandManager<C> extends CommandManager<C> implemen
         return this.senderMapper.reverse(sender).hasPermission(permission);
     }
 
+    /**
+     * Returns the maximum time that blocking suggestion requests, such as Bukkit's tab completion, wait for the
+     * suggestions, or {@code null} if there is no limit.
+     *
+     * @return the suggestion timeout, or {@code null}
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    public final @Nullable Duration suggestionTimeout() {
+        return this.suggestionTimeout;
+    }
+
+    /**
+     * Sets the maximum time that blocking suggestion requests, such as Bukkit's tab completion, wait for the
+     * suggestions. Once the timeout has passed, the request is answered without suggestions and the pending
+     * suggestion future is cancelled.
+     *
+     * <p>This only bounds suggestion providers that complete asynchronously. Requests handled through Brigadier
+     * are bounded by {@link CloudBrigadierManager#suggestionTimeout(Duration)} instead.</p>
+     *
+     * @param suggestionTimeout the suggestion timeout, or {@code null} to wait indefinitely
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    public final void suggestionTimeout(final @Nullable Duration suggestionTimeout) {
+        if (suggestionTimeout != null && (suggestionTimeout.isNegative() || suggestionTimeout.isZero())) {
+            throw new IllegalArgumentException("suggestionTimeout must be positive");
+        }
+        this.suggestionTimeout = suggestionTimeout;
+    }
+
+    /**
+     * Returns whether entity selector results are cached until the end of the current tick.
+     *
+     * @return whether selector results are cached
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    public final boolean cacheSelectorResults() {
+        return this.selectorResultCache != null;
+    }
+
+    /**
+     * Sets whether entity selector results are cached until the end of the current tick. When enabled, a selector
+     * that is parsed again within the same tick, for the same sender at the same position, reuses the entities
+     * matched the first time instead of querying the world again. This benefits commands that are run repeatedly from
+     * command blocks or functions.
+     *
+     * <p>Entities spawned, removed or moved later in the same tick are not reflected in cached results. The cache
+     * is only used on the main thread, it has no effect on Folia.</p>
+     *
+     * @param cacheSelectorResults whether to cache selector results
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    public final void cacheSelectorResults(final boolean cacheSelectorResults) {
+        if (cacheSelectorResults == this.cacheSelectorResults()) {
+            return;
+        }
+        this.selectorResultCache = cacheSelectorResults ? new SelectorResultCache(this.owningPlugin) : null;
+    }
+
+    final @Nullable SelectorResultCache selectorResultCache() {
+        return this.selectorResultCache;
+    }
+
+    /**
+     * Deletes the given root commands, as if by {@link #deleteRootCommand(String)}, and then sends the updated command
+     * tree to the online players once, rather than once per deleted command.
+     *
+     * @param rootCommands names of the root commands to delete
+     * @throws CloudCapability.CloudCapabilityMissingException if {@link CloudCapability.StandardCapabilities#ROOT_COMMAND_DELETION}
+     *                                                         is missing
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    public final void deleteRootCommands(final @NonNull Collection<@NonNull String> rootCommands) {
+        final List<String> commands = new ArrayList<>(rootCommands);
+        this.commandTreeResender.batch(() -> commands.forEach(this::deleteRootCommand));
+    }
+
+    /**
+     * Returns the maximum number of players that are sent an updated command tree per tick, or {@code 0} if there is no
+     * limit.
+     *
+     * @return the maximum number of players per tick
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    public final int commandTreeResendsPerTick() {
+        return this.commandTreeResender.playersPerTick();
+    }
+
+    /**
+     * Sets the maximum number of players that are sent an updated command tree per tick, after commands have been
+     * deleted or registered late. Changes made within the same tick are always sent together. With a limit, the
+     * players are spread across as many ticks as needed, which avoids a spike on servers with many players.
+     *
+     * <p>Defaults to {@code 0}, sending the tree to all players in the same tick.</p>
+     *
+     * @param playersPerTick the maximum number of players per tick, or {@code 0} for no limit
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    public final void commandTreeResendsPerTick(final int playersPerTick) {
+        this.commandTreeResender.playersPerTick(playersPerTick);
+    }
+
+    /**
+     * Returns the resender used to send updated command trees to the online players.
+     *
+     * @return the command tree resender
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public final @NonNull CommandTreeResender commandTreeResender() {
+        return this.commandTreeResender;
+    }
+
     @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
     protected final boolean splitAliases() {
         return this.splitAliases;
@@ -28,6 +28,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.bukkit.internal.BukkitBackwardsBrigadierSenderMapper;
 import org.incendo.cloud.bukkit.internal.BukkitHelper;
+import org.incendo.cloud.bukkit.internal.SelectorResultCache;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
 import org.incendo.cloud.execution.preprocessor.CommandPreprocessor;
@@ -80,5 +81,10 @@ final class BukkitCommandPreprocessor<C> implements CommandPreprocessor<C> {
                 BukkitCommandContextKeys.SENDER_SCHEDULER_EXECUTOR,
                 $ -> BukkitHelper.mainThreadExecutor(this.commandManager)
         );
+
+        final @Nullable SelectorResultCache selectorResultCache = this.commandManager.selectorResultCache();
+        if (selectorResultCache != null) {
+            context.commandContext().store(SelectorResultCache.KEY, selectorResultCache);
+        }
     }
 }
@@ -39,7 +39,6 @@ import org.bukkit.Bukkit;
 import org.bukkit.command.CommandMap;
 import org.bukkit.command.PluginIdentifiableCommand;
 import org.bukkit.command.SimpleCommandMap;
-import org.bukkit.entity.Player;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.Command;
 import org.incendo.cloud.bukkit.internal.BukkitHelper;
@@ -153,7 +152,7 @@ public class BukkitPluginRegistrationHandler<C> implements CommandRegistrationHa
 
         if (this.bukkitCommandManager.hasCapability(CloudBukkitCapabilities.BRIGADIER)) {
             // Once the command has been unregistered, we need to refresh the command list for all online players.
-            Bukkit.getOnlinePlayers().forEach(Player::updateCommands);
+            this.bukkitCommandManager.commandTreeResender().markDirty();
         }
     }
 
@@ -28,7 +28,9 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.server.PluginEnableEvent;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.bukkit.internal.EnchantmentSuggestions;
 
 final class CloudBukkitListener<C> implements Listener {
 
@@ -47,10 +49,16 @@ final class CloudBukkitListener<C> implements Listener {
         this.bukkitCommandManager.lockIfBrigadierCapable();
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    void onPluginEnable(final @NonNull PluginEnableEvent event) {
+        /* Plugins may register enchantments while they are enabled */
+        EnchantmentSuggestions.invalidate();
+    }
+
     @EventHandler(priority = EventPriority.HIGHEST)
     void onPluginDisable(final @NonNull PluginDisableEvent event) {
         if (event.getPlugin().equals(this.bukkitCommandManager.owningPlugin())) {
-            this.bukkitCommandManager.rootCommands().forEach(this.bukkitCommandManager::deleteRootCommand);
+            this.bukkitCommandManager.deleteRootCommands(this.bukkitCommandManager.rootCommands());
         }
     }
 }
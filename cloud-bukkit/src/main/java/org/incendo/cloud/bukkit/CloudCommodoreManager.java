@@ -27,6 +27,7 @@ import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.tree.CommandNode;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import com.mojang.brigadier.tree.RootCommandNode;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collections;
@@ -41,13 +42,26 @@ import org.incendo.cloud.SenderMapper;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
 import org.incendo.cloud.bukkit.internal.BukkitBackwardsBrigadierSenderMapper;
 import org.incendo.cloud.bukkit.internal.BukkitBrigadierMapper;
+import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
 
 @SuppressWarnings({"unchecked", "rawtypes"})
 class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
 
+    private static final ClassValue<MethodHandle> GET_BUKKIT_SENDER = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(final Class<?> type) {
+            try {
+                return CraftBukkitReflection.compile(type.getDeclaredMethod("getBukkitSender"));
+            } catch (final NoSuchMethodException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+    };
+
     private final BukkitCommandManager<C> commandManager;
     private final CloudBrigadierManager<C, Object> brigadierManager;
     private final Commodore commodore;
+    private final MethodHandle getDispatcherHandle;
 
     CloudCommodoreManager(final @NonNull BukkitCommandManager<C> commandManager) {
         if (!CommodoreProvider.isSupported()) {
@@ -55,6 +69,12 @@ class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
         }
         this.commandManager = commandManager;
         this.commodore = CommodoreProvider.getCommodore(commandManager.owningPlugin());
+        try {
+            this.getDispatcherHandle = CraftBukkitReflection.compile(this.commodore.getClass().getDeclaredMethod("getDispatcher"))
+                    .bindTo(this.commodore);
+        } catch (final NoSuchMethodException ex) {
+            throw new RuntimeException(ex);
+        }
         this.brigadierManager = new CloudBrigadierManager<>(
                 commandManager,
                 SenderMapper.create(
@@ -82,6 +102,7 @@ class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
 
     @Override
     protected void unregisterExternal(final @NonNull String label) {
+        this.brigadierManager.literalBrigadierNodeFactory().invalidateNodeCache(label);
         this.unregisterWithCommodore(label);
     }
 
@@ -159,22 +180,18 @@ class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
 
     private CommandDispatcher<?> getDispatcher() {
         try {
-            final Method getDispatcherMethod = this.commodore.getClass().getDeclaredMethod("getDispatcher");
-            getDispatcherMethod.setAccessible(true);
-            return (CommandDispatcher<?>) getDispatcherMethod.invoke(this.commodore);
-        } catch (final ReflectiveOperationException ex) {
-            throw new RuntimeException(ex);
+            return (CommandDispatcher<?>) (Object) this.getDispatcherHandle.invokeExact();
+        } catch (final Throwable thr) {
+            throw CraftBukkitReflection.propagate(thr);
         }
     }
 
     private static CommandSender getBukkitSender(final @NonNull Object commandSourceStack) {
         Objects.requireNonNull(commandSourceStack, "commandSourceStack");
         try {
-            final Method getBukkitSenderMethod = commandSourceStack.getClass().getDeclaredMethod("getBukkitSender");
-            getBukkitSenderMethod.setAccessible(true);
-            return (CommandSender) getBukkitSenderMethod.invoke(commandSourceStack);
-        } catch (final ReflectiveOperationException ex) {
-            throw new RuntimeException(ex);
+            return (CommandSender) (Object) GET_BUKKIT_SENDER.get(commandSourceStack.getClass()).invokeExact(commandSourceStack);
+        } catch (final Throwable thr) {
+            throw CraftBukkitReflection.propagate(thr);
         }
     }
 }
@@ -23,9 +23,13 @@
 //
 package org.incendo.cloud.bukkit.data;
 
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.function.Predicate;
+import org.apiguardian.api.API;
 import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -50,4 +54,47 @@ public interface BlockPredicate extends Predicate<Block> {
      * @since 1.5.0
      */
     @NonNull BlockPredicate loadChunks();
+
+    /**
+     * Get a version of this {@link BlockPredicate} which remembers the result of tests by {@link BlockData}, so that
+     * testing another block in the same state is a lookup rather than a full test. This is intended for predicates
+     * which are tested against many blocks, such as in fill or replace operations.
+     *
+     * <p>Predicates which depend on more than the block state, such as predicates matching NBT data, cannot be
+     * compiled, in which case this returns the predicate itself. Results are remembered for the lifetime of the
+     * returned predicate, so changes to block tags, for example through a data pack reload, are not picked up by
+     * an existing compiled predicate.</p>
+     *
+     * <p>If this {@link BlockPredicate} is already compiled, it will simply return itself.</p>
+     *
+     * @return a compiled {@link BlockPredicate}, or this predicate if it cannot be compiled
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    default @NonNull BlockPredicate compile() {
+        return this;
+    }
+
+    /**
+     * Tests all the given blocks.
+     *
+     * <p>The bit at index {@code i} of the returned set is set if the {@code i}-th block, in iteration order,
+     * matches this predicate.</p>
+     *
+     * @param blocks blocks to test
+     * @return the indices of the matching blocks
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    default @NonNull BitSet test(final @NonNull Collection<? extends @NonNull Block> blocks) {
+        final BitSet matches = new BitSet(blocks.size());
+        int index = 0;
+        for (final Block block : blocks) {
+            if (this.test(block)) {
+                matches.set(index);
+            }
+            index++;
+        }
+        return matches;
+    }
 }
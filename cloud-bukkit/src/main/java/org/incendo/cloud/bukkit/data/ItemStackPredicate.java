@@ -23,8 +23,13 @@
 //
 package org.incendo.cloud.bukkit.data;
 
+import java.util.BitSet;
 import java.util.function.Predicate;
+import org.apiguardian.api.API;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * {@link Predicate} for {@link ItemStack ItemStacks}, parsed from user input.
@@ -33,4 +38,58 @@ import org.bukkit.inventory.ItemStack;
  */
 public interface ItemStackPredicate extends Predicate<ItemStack> {
 
+    /**
+     * Tests all the given item stacks.
+     *
+     * <p>The bit at index {@code i} of the returned set is set if the stack at index {@code i} matches this predicate.
+     * {@code null} elements, such as empty slots of an inventory, never match.</p>
+     *
+     * @param itemStacks item stacks to test
+     * @return the indices of the matching item stacks
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    default @NonNull BitSet testAll(final @Nullable ItemStack @NonNull[] itemStacks) {
+        final BitSet matches = new BitSet(itemStacks.length);
+        for (int i = 0; i < itemStacks.length; i++) {
+            final ItemStack itemStack = itemStacks[i];
+            if (itemStack != null && this.test(itemStack)) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Tests all the slots of the given inventory.
+     *
+     * <p>The bit at index {@code i} of the returned set is set if the stack in slot {@code i} matches this predicate.</p>
+     *
+     * @param inventory inventory to test
+     * @return the indices of the matching slots
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    default @NonNull BitSet testAll(final @NonNull Inventory inventory) {
+        return this.testAll(inventory.getContents());
+    }
+
+    /**
+     * Counts the items in the given item stacks matching this predicate, that is, the sum of the
+     * {@link ItemStack#getAmount() amounts} of the matching stacks.
+     *
+     * @param itemStacks item stacks to count
+     * @return the number of matching items
+     * @since 2.1.0
+     */
+    @API(status = API.Status.STABLE, since = "2.1.0")
+    default int count(final @Nullable ItemStack @NonNull[] itemStacks) {
+        int count = 0;
+        for (final ItemStack itemStack : itemStacks) {
+            if (itemStack != null && this.test(itemStack)) {
+                count += itemStack.getAmount();
+            }
+        }
+        return count;
+    }
 }
@@ -0,0 +1,84 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import com.google.common.base.Suppliers;
+import com.mojang.brigadier.arguments.ArgumentType;
+import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
+
+/**
+ * Suppliers of Minecraft {@link ArgumentType}s that take a command build context on 1.19+.
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class BuildContextArgumentTypes {
+
+    /**
+     * Key used for argument types that do not take a command build context.
+     */
+    private static final Object NO_BUILD_CONTEXT = new Object();
+
+    private BuildContextArgumentTypes() {
+    }
+
+    /**
+     * Returns a supplier of instances of the given argument type class, constructed with the
+     * {@link CommandBuildContextSupplier#commandBuildContext() command build context} if the constructor takes one.
+     *
+     * <p>The instance is reused until the command build context changes, which happens when the registries or the
+     * enabled features of the server change.</p>
+     *
+     * @param <T>               value type
+     * @param argumentTypeClass supplier of the argument type class
+     * @param name              name of the argument type, used in error messages
+     * @return the argument type supplier
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NonNull Supplier<ArgumentType<T>> cached(
+            final @NonNull Supplier<Class<?>> argumentTypeClass,
+            final @NonNull String name
+    ) {
+        final Supplier<Constructor<?>> constructor = Suppliers.memoize(() -> argumentTypeClass.get().getDeclaredConstructors()[0]);
+        return WrappedBrigadierParser.cachedArgumentType(
+                () -> constructor.get().getParameterCount() == 0
+                        ? NO_BUILD_CONTEXT
+                        : CommandBuildContextSupplier.commandBuildContext(), // 1.19+
+                buildContext -> {
+                    try {
+                        if (buildContext == NO_BUILD_CONTEXT) {
+                            return (ArgumentType<T>) constructor.get().newInstance();
+                        }
+                        return (ArgumentType<T>) constructor.get().newInstance(buildContext);
+                    } catch (final ReflectiveOperationException e) {
+                        throw new RuntimeException("Failed to initialize " + name + " parser.", e);
+                    }
+                }
+        );
+    }
+}
@@ -28,6 +28,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -115,14 +116,32 @@ public final class CommandBuildContextSupplier {
         }
     }
 
+    private static volatile @Nullable CachedContext cachedContext;
+
     private CommandBuildContextSupplier() {
     }
 
+    /**
+     * Returns the command build context for the current registries and enabled features of the server.
+     *
+     * <p>The same instance is returned until the registries or the enabled features change, e.g. when the data packs are
+     * reloaded, so the identity of the returned context may be used to tell whether argument types built with it
+     * are still up-to-date.</p>
+     *
+     * @return the command build context
+     */
     public static Object commandBuildContext() {
         if (COMMAND_BUILD_CONTEXT_CTR != null) {
             try {
                 final Object server = GET_SERVER_METHOD.invoke(null);
-                return COMMAND_BUILD_CONTEXT_CTR.newInstance(REGISTRY_ACCESS.invoke(server));
+                final Object registryAccess = REGISTRY_ACCESS.invoke(server);
+                final @Nullable CachedContext cached = cachedContext;
+                if (cached != null && cached.registryAccess == registryAccess) {
+                    return cached.context;
+                }
+                final Object context = COMMAND_BUILD_CONTEXT_CTR.newInstance(registryAccess);
+                cachedContext = new CachedContext(registryAccess, null, context);
+                return context;
             } catch (final ReflectiveOperationException e) {
                 throw new RuntimeException(e);
             }
@@ -131,7 +150,14 @@ public final class CommandBuildContextSupplier {
                 final Object server = GET_SERVER_METHOD.invoke(null);
                 final Object worldData = GET_WORLD_DATA_METHOD.invoke(server);
                 final Object flags = GET_FEATURE_FLAGS_METHOD.invoke(worldData);
-                return CREATE_CONTEXT_METHOD.invoke(null, REGISTRY_ACCESS.invoke(server), flags);
+                final Object registryAccess = REGISTRY_ACCESS.invoke(server);
+                final @Nullable CachedContext cached = cachedContext;
+                if (cached != null && cached.registryAccess == registryAccess && Objects.equals(cached.featureFlags, flags)) {
+                    return cached.context;
+                }
+                final Object context = CREATE_CONTEXT_METHOD.invoke(null, registryAccess, flags);
+                cachedContext = new CachedContext(registryAccess, flags, context);
+                return context;
             } catch (final ReflectiveOperationException e) {
                 throw new RuntimeException(e);
             }
@@ -139,4 +165,18 @@ public final class CommandBuildContextSupplier {
             throw new IllegalStateException();
         }
     }
+
+
+    private static final class CachedContext {
+
+        private final Object registryAccess;
+        private final @Nullable Object featureFlags;
+        private final Object context;
+
+        private CachedContext(final Object registryAccess, final @Nullable Object featureFlags, final Object context) {
+            this.registryAccess = registryAccess;
+            this.featureFlags = featureFlags;
+            this.context = context;
+        }
+    }
 }
@@ -0,0 +1,190 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Coalesces requests to resend the command tree to online players. Changes to the command tree mark it dirty, and
+ * the tree is sent once on the next tick, no matter how many changes were made in between. Optionally, the players
+ * are spread across several ticks.
+ *
+ * <p>Changes made within {@link #batch(Runnable)} are sent once the batch completes, without waiting for the next
+ * tick. This is used when the owning plugin is being disabled, as scheduled tasks would be cancelled.</p>
+ *
+ * <p>On Folia, or when the plugin is not enabled, the tree is resent immediately instead.</p>
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class CommandTreeResender {
+
+    private static final boolean FOLIA = CraftBukkitReflection.classExists("io.papermc.paper.threadedregions.RegionizedServer");
+
+    private final Supplier<Plugin> plugin;
+    private volatile int playersPerTick;
+
+    /* Guarded by this */
+    private final Deque<Player> pending = new ArrayDeque<>();
+    private boolean scheduled;
+    private boolean restart;
+    private int batchDepth;
+    private boolean dirtyInBatch;
+
+    /**
+     * Creates a new resender.
+     *
+     * @param plugin supplier of the plugin used to schedule the resends, which may supply {@code null} while it is not loaded
+     */
+    public CommandTreeResender(final @NonNull Supplier<@Nullable Plugin> plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Returns the maximum number of players that are sent the command tree per tick, or {@code 0} if all players are
+     * sent the tree in the same tick.
+     *
+     * @return the maximum number of players per tick
+     */
+    public int playersPerTick() {
+        return this.playersPerTick;
+    }
+
+    /**
+     * Sets the maximum number of players that are sent the command tree per tick, or {@code 0} to send the tree to all
+     * players in the same tick.
+     *
+     * @param playersPerTick the maximum number of players per tick
+     */
+    public void playersPerTick(final int playersPerTick) {
+        if (playersPerTick < 0) {
+            throw new IllegalArgumentException("playersPerTick must not be negative");
+        }
+        this.playersPerTick = playersPerTick;
+    }
+
+    /**
+     * Marks the command tree as changed, scheduling it to be resent to all online players.
+     */
+    public void markDirty() {
+        synchronized (this) {
+            if (this.batchDepth > 0) {
+                this.dirtyInBatch = true;
+                return;
+            }
+            // Players that have already been sent the old tree need the new one as well
+            this.restart = true;
+            if (this.scheduled) {
+                return;
+            }
+            this.scheduled = this.schedule();
+            if (this.scheduled) {
+                return;
+            }
+            this.restart = false;
+            this.pending.clear();
+        }
+        resend(Bukkit.getOnlinePlayers());
+    }
+
+    /**
+     * Runs the given action, and resends the command tree once it completes if the action changed it.
+     *
+     * @param action action changing the command tree
+     */
+    public void batch(final @NonNull Runnable action) {
+        synchronized (this) {
+            this.batchDepth++;
+        }
+        try {
+            action.run();
+        } finally {
+            final boolean dirty;
+            synchronized (this) {
+                this.batchDepth--;
+                dirty = this.batchDepth == 0 && this.dirtyInBatch;
+                if (dirty) {
+                    this.dirtyInBatch = false;
+                    // Everyone is sent the tree now, there is no need to continue a scheduled resend
+                    this.restart = false;
+                    this.pending.clear();
+                }
+            }
+            if (dirty) {
+                resend(Bukkit.getOnlinePlayers());
+            }
+        }
+    }
+
+    private boolean schedule() {
+        final @Nullable Plugin plugin = this.plugin.get();
+        if (FOLIA || plugin == null || !plugin.isEnabled()) {
+            return false;
+        }
+        Bukkit.getScheduler().runTask(plugin, this::flush);
+        return true;
+    }
+
+    private void flush() {
+        final List<Player> players;
+        synchronized (this) {
+            if (this.restart) {
+                this.restart = false;
+                this.pending.clear();
+                this.pending.addAll(Bukkit.getOnlinePlayers());
+            }
+            final int limit = this.playersPerTick;
+            final int count = limit == 0 ? this.pending.size() : Math.min(limit, this.pending.size());
+            players = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                players.add(this.pending.poll());
+            }
+            this.scheduled = !this.pending.isEmpty() && this.schedule();
+            if (!this.scheduled) {
+                // The remaining players can no longer be spread across ticks
+                players.addAll(this.pending);
+                this.pending.clear();
+            }
+        }
+        resend(players);
+    }
+
+    private static void resend(final @NonNull Iterable<? extends Player> players) {
+        for (final Player player : players) {
+            if (player.isOnline()) {
+                player.updateCommands();
+            }
+        }
+    }
+}
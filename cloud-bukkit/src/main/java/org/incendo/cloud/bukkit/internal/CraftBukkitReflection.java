@@ -23,6 +23,8 @@
 //
 package org.incendo.cloud.bukkit.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
@@ -48,6 +50,7 @@ public final class CraftBukkitReflection {
     private static final String PREFIX_CRAFTBUKKIT = "org.bukkit.craftbukkit";
     private static final String CRAFT_SERVER = "CraftServer";
     private static final String CB_PKG_VERSION;
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
     public static final int MAJOR_REVISION;
 
     static {
@@ -277,6 +280,87 @@ public final class CraftBukkitReflection {
         }
     }
 
+    /**
+     * Compiles the given constructor or method into a {@link MethodHandle} whose reference parameter and return types
+     * have been erased to {@link Object}, see {@link java.lang.invoke.MethodType#erase()}. Primitive types are kept,
+     * so that calls through the handle do not box.
+     *
+     * <p>Instance methods take the receiver as their first argument. Store the handle in a {@code static final}
+     * field and call it with {@link MethodHandle#invokeExact(Object...)}, casting reference results to {@link Object},
+     * so that the JIT can inline the target like a regular call. Unlike {@link Method#invoke(Object, Object...)},
+     * exceptions thrown by the target are not wrapped.</p>
+     *
+     * @param executable constructor or method
+     * @return erased method handle
+     * @throws RuntimeException if the executable cannot be accessed
+     */
+    public static @NonNull MethodHandle compile(final @NonNull Executable executable) throws RuntimeException {
+        try {
+            executable.setAccessible(true);
+            final MethodHandle handle = executable instanceof Constructor<?>
+                    ? LOOKUP.unreflectConstructor((Constructor<?>) executable)
+                    : LOOKUP.unreflect((Method) executable);
+            return handle.asType(handle.type().erase());
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            throw new RuntimeException("Failed to compile " + executable, e);
+        }
+    }
+
+    /**
+     * Compiles a getter for the given field, erased in the same way as {@link #compile(Executable)}.
+     *
+     * <p>Getters for instance fields take the instance as their only argument, getters for static fields
+     * take no arguments.</p>
+     *
+     * @param field field
+     * @return erased getter method handle
+     * @throws RuntimeException if the field cannot be accessed
+     */
+    public static @NonNull MethodHandle compileGetter(final @NonNull Field field) throws RuntimeException {
+        try {
+            field.setAccessible(true);
+            final MethodHandle handle = LOOKUP.unreflectGetter(field);
+            return handle.asType(handle.type().erase());
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            throw new RuntimeException("Failed to compile getter for " + field, e);
+        }
+    }
+
+    /**
+     * Compiles a setter for the given instance field, erased in the same way as {@link #compile(Executable)}.
+     * The setter takes the instance and the new value.
+     *
+     * @param field instance field, final fields are made accessible for writing
+     * @return erased setter method handle
+     * @throws RuntimeException if the field cannot be accessed
+     */
+    public static @NonNull MethodHandle compileSetter(final @NonNull Field field) throws RuntimeException {
+        try {
+            field.setAccessible(true);
+            final MethodHandle handle = LOOKUP.unreflectSetter(field);
+            return handle.asType(handle.type().erase());
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            throw new RuntimeException("Failed to compile setter for " + field, e);
+        }
+    }
+
+    /**
+     * Rethrows a {@link Throwable} thrown by a compiled handle, wrapping checked exceptions
+     * in a {@link RuntimeException}.
+     *
+     * @param throwable throwable
+     * @return never returns, declared so that callers can {@code throw} the result
+     */
+    public static @NonNull RuntimeException propagate(final @NonNull Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        throw new RuntimeException(throwable);
+    }
+
     private CraftBukkitReflection() {
     }
 }
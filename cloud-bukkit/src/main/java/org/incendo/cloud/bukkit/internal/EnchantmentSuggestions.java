@@ -0,0 +1,83 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apiguardian.api.API;
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Shared suggestion table of the registered enchantments.
+ *
+ * <p>The table is built on first use, and rebuilt after a plugin has been enabled, as plugins may register
+ * enchantments while they are enabled. The registry does not change otherwise.</p>
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class EnchantmentSuggestions {
+
+    private static volatile @Nullable SuggestionTable table;
+
+    private EnchantmentSuggestions() {
+    }
+
+    /**
+     * Returns the suggestion table of the registered enchantments.
+     *
+     * @return the table
+     */
+    public static @NonNull SuggestionTable table() {
+        @Nullable SuggestionTable table = EnchantmentSuggestions.table;
+        if (table == null) {
+            table = createTable();
+            EnchantmentSuggestions.table = table;
+        }
+        return table;
+    }
+
+    /**
+     * Discards the table, so that it is rebuilt from the registry on next use.
+     */
+    public static void invalidate() {
+        table = null;
+    }
+
+    private static @NonNull SuggestionTable createTable() {
+        final Enchantment[] enchantments = Enchantment.values();
+        final List<String> completions = new ArrayList<>(enchantments.length);
+        for (final Enchantment value : enchantments) {
+            if (value.getKey().getNamespace().equals(NamespacedKey.MINECRAFT)) {
+                completions.add(value.getKey().getKey());
+            } else {
+                completions.add(value.getKey().toString());
+            }
+        }
+        return SuggestionTable.of(completions);
+    }
+}
@@ -32,7 +32,10 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.bukkit.NamespacedKey;
@@ -48,6 +51,7 @@ public final class MinecraftArgumentTypes {
     }
 
     private static final ArgumentTypeGetter ARGUMENT_TYPE_GETTER;
+    private static final Map<NamespacedKey, Class<? extends ArgumentType<?>>> CLASS_BY_KEY = new ConcurrentHashMap<>();
 
     static {
         if (CraftBukkitReflection.classExists("org.bukkit.entity.Warden")) {
@@ -60,6 +64,9 @@ public final class MinecraftArgumentTypes {
     /**
      * Gets a registered argument type class by key.
      *
+     * <p>Results are cached, as the argument type registry is not expected to change at runtime.
+     * See {@link #invalidateClassCache()}.</p>
+     *
      * @param key the key
      * @return the returned argument type class
      * @throws IllegalArgumentException if no such argument is registered
@@ -67,7 +74,20 @@ public final class MinecraftArgumentTypes {
     public static Class<? extends ArgumentType<?>> getClassByKey(
             final @NonNull NamespacedKey key
     ) throws IllegalArgumentException {
-        return ARGUMENT_TYPE_GETTER.getClassByKey(key);
+        final Class<? extends ArgumentType<?>> cached = CLASS_BY_KEY.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Misses are not cached, unknown keys keep throwing
+        return CLASS_BY_KEY.computeIfAbsent(key, ARGUMENT_TYPE_GETTER::getClassByKey);
+    }
+
+    /**
+     * Clears the key to class cache used by {@link #getClassByKey(NamespacedKey)}, for use when argument types
+     * have been registered or replaced after the cache was populated.
+     */
+    public static void invalidateClassCache() {
+        CLASS_BY_KEY.clear();
     }
 
     private interface ArgumentTypeGetter {
@@ -75,11 +95,42 @@ public final class MinecraftArgumentTypes {
         Class<? extends ArgumentType<?>> getClassByKey(@NonNull NamespacedKey key) throws IllegalArgumentException;
     }
 
+    /**
+     * Reverse index of an argument type info to argument type class map, rebuilt when an info is not found.
+     */
+    private static final class ClassByInfoIndex {
+
+        private volatile Map<Object, Class<?>> index = Collections.emptyMap();
+
+        @SuppressWarnings("unchecked")
+        Class<? extends ArgumentType<?>> lookup(
+                final @NonNull Map<?, ?> byClassMap,
+                final @NonNull Object info,
+                final @NonNull NamespacedKey key
+        ) throws IllegalArgumentException {
+            Class<?> type = this.index.get(info);
+            if (type == null) {
+                // Argument types may have been registered since the index was built
+                final Map<Object, Class<?>> rebuilt = new IdentityHashMap<>();
+                for (final Map.Entry<?, ?> entry : byClassMap.entrySet()) {
+                    rebuilt.put(entry.getValue(), (Class<?>) entry.getKey());
+                }
+                this.index = rebuilt;
+                type = rebuilt.get(info);
+                if (type == null) {
+                    throw new IllegalArgumentException(key.toString());
+                }
+            }
+            return (Class<? extends ArgumentType<?>>) type;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static final class ArgumentTypeGetterImpl implements MinecraftArgumentTypes.ArgumentTypeGetter {
 
         private final Supplier<Object> argumentRegistry;
         private final Map<?, ?> byClassMap;
+        private final ClassByInfoIndex index = new ClassByInfoIndex();
 
         private ArgumentTypeGetterImpl() {
             this.argumentRegistry = Suppliers.memoize(() -> RegistryReflection.builtInRegistryByName("command_argument_type"));
@@ -96,12 +147,10 @@ public final class MinecraftArgumentTypes {
         @Override
         public Class<? extends ArgumentType<?>> getClassByKey(final @NonNull NamespacedKey key) throws IllegalArgumentException {
             final Object argTypeInfo = RegistryReflection.get(this.argumentRegistry.get(), key.getNamespace() + ":" + key.getKey());
-            for (final Map.Entry<?, ?> entry : this.byClassMap.entrySet()) {
-                if (entry.getValue() == argTypeInfo) {
-                    return (Class<? extends ArgumentType<?>>) entry.getKey();
-                }
+            if (argTypeInfo == null) {
+                throw new IllegalArgumentException(key.toString());
             }
-            throw new IllegalArgumentException(key.toString());
+            return this.index.lookup(this.byClassMap, argTypeInfo, key);
         }
     }
 
@@ -112,6 +161,8 @@ public final class MinecraftArgumentTypes {
         private static final Method ARGUMENT_REGISTRY_GET_BY_KEY_METHOD;
         private static final Field BY_CLASS_MAP_FIELD;
 
+        private final ClassByInfoIndex index = new ClassByInfoIndex();
+
         static {
             try {
                 final Class<?> minecraftKey;
@@ -168,13 +219,7 @@ public final class MinecraftArgumentTypes {
                     throw new IllegalArgumentException(key.toString());
                 }
 
-                final Map<Class<?>, Object> map = (Map<Class<?>, Object>) BY_CLASS_MAP_FIELD.get(null);
-                for (final Map.Entry<Class<?>, Object> mapEntry : map.entrySet()) {
-                    if (mapEntry.getValue() == entry) {
-                        return (Class<? extends ArgumentType<?>>) mapEntry.getKey();
-                    }
-                }
-                throw new IllegalArgumentException(key.toString());
+                return this.index.lookup((Map<?, ?>) BY_CLASS_MAP_FIELD.get(null), entry, key);
             } catch (ReflectiveOperationException e) {
                 throw new RuntimeException(e);
             }
@@ -0,0 +1,263 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apiguardian.api.API;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Resolves offline players by name without blocking the calling thread on profile lookups.
+ *
+ * <p>Names are first resolved from the online players, a bounded cache of recently resolved and recently seen
+ * players, and the server's user cache when the platform exposes it. Remaining names are looked up on a background
+ * thread, and the result is cached. Names unknown to the server are cached for a shorter time.</p>
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class OfflinePlayerCache implements Listener {
+
+    private static final OfflinePlayerCache INSTANCE = new OfflinePlayerCache();
+    private static final int MAXIMUM_SIZE = 1024;
+    private static final long KNOWN_LIFETIME = TimeUnit.MINUTES.toNanos(30);
+    private static final long UNKNOWN_LIFETIME = TimeUnit.MINUTES.toNanos(5);
+    // Paper: Server#getOfflinePlayerIfCached(String), which only consults the user cache
+    private static final @Nullable MethodHandle GET_OFFLINE_PLAYER_IF_CACHED = findGetOfflinePlayerIfCached();
+
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+            return this.size() > MAXIMUM_SIZE;
+        }
+    };
+    private final Map<String, CompletableFuture<OfflinePlayer>> pending = new ConcurrentHashMap<>();
+    private volatile @Nullable Plugin owner;
+
+    private OfflinePlayerCache() {
+    }
+
+    /**
+     * Returns the shared cache.
+     *
+     * @return the cache
+     */
+    public static @NonNull OfflinePlayerCache instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts remembering players that leave the server, using a listener registered by the given plugin, unless
+     * an enabled plugin already does.
+     *
+     * @param plugin plugin to register the listener with
+     */
+    public synchronized void install(final @NonNull Plugin plugin) {
+        final @Nullable Plugin owner = this.owner;
+        if (owner != null && owner.isEnabled()) {
+            return;
+        }
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        this.owner = plugin;
+    }
+
+    /**
+     * Resolves the offline player with the given name. The returned future is already completed unless the name
+     * has to be looked up.
+     *
+     * @param name player name
+     * @return future that completes with the player
+     */
+    @SuppressWarnings("deprecation")
+    public @NonNull CompletableFuture<@NonNull OfflinePlayer> resolve(final @NonNull String name) {
+        final @Nullable Player online = PlayerNameIndex.instance().exact(name);
+        if (online != null) {
+            return CompletableFuture.completedFuture(online);
+        }
+        final String key = name.toLowerCase(Locale.ROOT);
+        final @Nullable OfflinePlayer cached = this.cached(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        final @Nullable OfflinePlayer userCached = userCached(name);
+        if (userCached != null) {
+            this.put(key, new Entry(userCached.getUniqueId(), userCached.getName(), userCached, true));
+            return CompletableFuture.completedFuture(userCached);
+        }
+
+        final CompletableFuture<OfflinePlayer> existing = this.pending.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        final CompletableFuture<OfflinePlayer> future = new CompletableFuture<>();
+        final @Nullable CompletableFuture<OfflinePlayer> concurrent = this.pending.putIfAbsent(key, future);
+        if (concurrent != null) {
+            return concurrent;
+        }
+        LookupExecutor.INSTANCE.execute(() -> {
+            try {
+                final OfflinePlayer player = Bukkit.getOfflinePlayer(name);
+                this.put(key, new Entry(player.getUniqueId(), player.getName(), player, player.hasPlayedBefore()));
+                future.complete(player);
+            } catch (final Throwable thr) {
+                future.completeExceptionally(thr);
+            } finally {
+                this.pending.remove(key, future);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns the names of cached players that have played on the server and whose names start with the given
+     * prefix, ignoring case.
+     *
+     * @param prefix name prefix
+     * @return the names
+     */
+    public synchronized @NonNull List<@NonNull String> knownNames(final @NonNull String prefix) {
+        final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        final long now = System.nanoTime();
+        final List<String> names = new ArrayList<>();
+        for (final Map.Entry<String, Entry> entry : this.entries.entrySet()) {
+            final Entry value = entry.getValue();
+            if (value.known && value.name != null && now - value.expiry < 0 && entry.getKey().startsWith(lowerPrefix)) {
+                names.add(value.name);
+            }
+        }
+        return names;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    void onPlayerQuit(final @NonNull PlayerQuitEvent event) {
+        final Player player = event.getPlayer();
+        // The player itself is not retained, it is looked up by UUID once needed
+        this.put(player.getName().toLowerCase(Locale.ROOT), new Entry(player.getUniqueId(), player.getName(), null, true));
+    }
+
+    private @Nullable OfflinePlayer cached(final @NonNull String key) {
+        final @Nullable Entry entry;
+        synchronized (this) {
+            entry = this.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.expiry >= 0) {
+                this.entries.remove(key);
+                return null;
+            }
+        }
+        // Resolved outside of the lock, the server may need to load the player
+        return entry.player != null ? entry.player : Bukkit.getOfflinePlayer(entry.uuid);
+    }
+
+    private synchronized void put(final @NonNull String key, final @NonNull Entry entry) {
+        this.entries.put(key, entry);
+    }
+
+    private static @Nullable OfflinePlayer userCached(final @NonNull String name) {
+        if (GET_OFFLINE_PLAYER_IF_CACHED == null) {
+            return null;
+        }
+        try {
+            return (OfflinePlayer) (Object) GET_OFFLINE_PLAYER_IF_CACHED.invokeExact((Object) Bukkit.getServer(), (Object) name);
+        } catch (final Throwable thr) {
+            throw CraftBukkitReflection.propagate(thr);
+        }
+    }
+
+    private static @Nullable MethodHandle findGetOfflinePlayerIfCached() {
+        final @Nullable Method method = CraftBukkitReflection.findMethod(Server.class, "getOfflinePlayerIfCached", String.class);
+        return method == null ? null : CraftBukkitReflection.compile(method);
+    }
+
+    private static final class Entry {
+
+        private final UUID uuid;
+        private final @Nullable String name;
+        private final @Nullable OfflinePlayer player;
+        private final boolean known;
+        private final long expiry;
+
+        private Entry(
+                final @NonNull UUID uuid,
+                final @Nullable String name,
+                final @Nullable OfflinePlayer player,
+                final boolean known
+        ) {
+            this.uuid = uuid;
+            this.name = name;
+            this.player = player;
+            this.known = known;
+            this.expiry = System.nanoTime() + (known ? KNOWN_LIFETIME : UNKNOWN_LIFETIME);
+        }
+    }
+
+    private static final class LookupExecutor {
+
+        private static final ThreadPoolExecutor INSTANCE = createExecutor();
+
+        private LookupExecutor() {
+        }
+
+        private static ThreadPoolExecutor createExecutor() {
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    2,
+                    2,
+                    30L,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        final Thread thread = new Thread(runnable, "cloud-offline-player-lookup");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+            );
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import org.apiguardian.api.API;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Index of the online players sorted by their lower case name, maintained from join and quit events.
+ *
+ * <p>Lookups read an immutable snapshot and never block, updates replace the snapshot. Until the index has been
+ * installed by a command manager, or after its plugin has been disabled, all lookups fall back to scanning the
+ * online players.</p>
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class PlayerNameIndex implements Listener {
+
+    private static final PlayerNameIndex INSTANCE = new PlayerNameIndex();
+
+    private volatile @Nullable Plugin owner;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private PlayerNameIndex() {
+    }
+
+    /**
+     * Returns the shared index.
+     *
+     * @return the index
+     */
+    public static @NonNull PlayerNameIndex instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts maintaining the index with listeners registered by the given plugin, unless it is already maintained
+     * by an enabled plugin.
+     *
+     * @param plugin plugin to register the listeners with
+     */
+    public synchronized void install(final @NonNull Plugin plugin) {
+        if (this.active()) {
+            return;
+        }
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        this.owner = plugin;
+        Snapshot snapshot = Snapshot.EMPTY;
+        for (final Player player : Bukkit.getOnlinePlayers()) {
+            snapshot = snapshot.with(player);
+        }
+        this.snapshot = snapshot;
+    }
+
+    private boolean active() {
+        final @Nullable Plugin owner = this.owner;
+        return owner != null && owner.isEnabled();
+    }
+
+    /**
+     * Returns the online player with the given name, ignoring case.
+     *
+     * @param name player name
+     * @return the player, or {@code null}
+     */
+    public @Nullable Player exact(final @NonNull String name) {
+        if (!this.active()) {
+            return Bukkit.getPlayerExact(name);
+        }
+        return this.snapshot.exact(name);
+    }
+
+    /**
+     * Matches an online player like {@link Bukkit#getPlayer(String)}. An exact match is preferred, otherwise the
+     * player with the shortest name starting with the input is returned.
+     *
+     * @param input player name or name prefix
+     * @return the player, or {@code null}
+     */
+    @SuppressWarnings("deprecation")
+    public @Nullable Player match(final @NonNull String input) {
+        if (!this.active()) {
+            return Bukkit.getPlayer(input);
+        }
+        return this.snapshot.match(input);
+    }
+
+    /**
+     * Returns the online players whose names start with the given prefix, ignoring case, sorted by name.
+     *
+     * @param prefix name prefix
+     * @param limit  maximum number of players to return
+     * @return the players
+     */
+    public @NonNull List<@NonNull Player> withPrefix(final @NonNull String prefix, final int limit) {
+        if (!this.active()) {
+            final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+            final List<Player> players = new ArrayList<>();
+            for (final Player player : Bukkit.getOnlinePlayers()) {
+                if (players.size() < limit && player.getName().toLowerCase(Locale.ROOT).startsWith(lowerPrefix)) {
+                    players.add(player);
+                }
+            }
+            return players;
+        }
+        return this.snapshot.withPrefix(prefix, limit);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    synchronized void onPlayerJoin(final @NonNull PlayerJoinEvent event) {
+        this.snapshot = this.snapshot.with(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    synchronized void onPlayerQuit(final @NonNull PlayerQuitEvent event) {
+        this.snapshot = this.snapshot.without(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    synchronized void onPluginDisable(final @NonNull PluginDisableEvent event) {
+        if (event.getPlugin().equals(this.owner)) {
+            this.owner = null;
+            this.snapshot = Snapshot.EMPTY;
+        }
+    }
+
+    /**
+     * Immutable arrays of the online players and their lower case names, sorted by name. Players whose names only
+     * differ in case, as may happen in offline mode, are kept in the order in which they joined.
+     */
+    static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new String[0], new Player[0]);
+
+        private final String[] names;
+        private final Player[] players;
+
+        private Snapshot(final @NonNull String[] names, final @NonNull Player[] players) {
+            this.names = names;
+            this.players = players;
+        }
+
+        /**
+         * Returns the player with the given name, ignoring case. A player whose name also matches the case is
+         * preferred, otherwise the player that joined first is returned.
+         *
+         * @param name player name
+         * @return the player, or {@code null}
+         */
+        @Nullable Player exact(final @NonNull String name) {
+            final String lowerName = name.toLowerCase(Locale.ROOT);
+            @Nullable Player found = null;
+            for (int i = this.start(lowerName); i < this.names.length && this.names[i].equals(lowerName); i++) {
+                if (this.players[i].getName().equals(name)) {
+                    return this.players[i];
+                }
+                if (found == null) {
+                    found = this.players[i];
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Returns the player with the exact name, or otherwise the player with the shortest name starting with the
+         * input, ignoring case.
+         *
+         * @param input player name or name prefix
+         * @return the player, or {@code null}
+         */
+        @Nullable Player match(final @NonNull String input) {
+            final @Nullable Player exact = this.exact(input);
+            if (exact != null) {
+                return exact;
+            }
+            final String prefix = input.toLowerCase(Locale.ROOT);
+            @Nullable Player found = null;
+            int shortest = Integer.MAX_VALUE;
+            for (int i = this.start(prefix); i < this.names.length && this.names[i].startsWith(prefix); i++) {
+                final int length = this.names[i].length();
+                if (length < shortest) {
+                    found = this.players[i];
+                    shortest = length;
+                }
+            }
+            return found;
+        }
+
+        @NonNull List<@NonNull Player> withPrefix(final @NonNull String prefix, final int limit) {
+            final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+            final int start = this.start(lowerPrefix);
+            int end = start;
+            while (end < this.names.length && end - start < limit && this.names[end].startsWith(lowerPrefix)) {
+                end++;
+            }
+            return start == end
+                    ? Collections.emptyList()
+                    : Collections.unmodifiableList(Arrays.asList(this.players).subList(start, end));
+        }
+
+        /**
+         * Returns the index of the first name that is not less than the given name.
+         *
+         * @param lowerName lower case name or name prefix
+         * @return the index
+         */
+        private int start(final @NonNull String lowerName) {
+            int low = 0;
+            int high = this.names.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (this.names[mid].compareTo(lowerName) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        @NonNull Snapshot with(final @NonNull Player player) {
+            final Snapshot snapshot = this.without(player);
+            final String name = player.getName().toLowerCase(Locale.ROOT);
+            // Insert after the players with the same name
+            int index = snapshot.start(name);
+            while (index < snapshot.names.length && snapshot.names[index].equals(name)) {
+                index++;
+            }
+            final String[] names = new String[snapshot.names.length + 1];
+            final Player[] players = new Player[snapshot.players.length + 1];
+            System.arraycopy(snapshot.names, 0, names, 0, index);
+            System.arraycopy(snapshot.players, 0, players, 0, index);
+            names[index] = name;
+            players[index] = player;
+            System.arraycopy(snapshot.names, index, names, index + 1, snapshot.names.length - index);
+            System.arraycopy(snapshot.players, index, players, index + 1, snapshot.players.length - index);
+            return new Snapshot(names, players);
+        }
+
+        @NonNull Snapshot without(final @NonNull Player player) {
+            final String name = player.getName().toLowerCase(Locale.ROOT);
+            int index = this.start(name);
+            while (index < this.names.length && this.names[index].equals(name) && this.players[index] != player) {
+                index++;
+            }
+            if (index == this.names.length || this.players[index] != player) {
+                return this;
+            }
+            final String[] names = new String[this.names.length - 1];
+            final Player[] players = new Player[this.players.length - 1];
+            System.arraycopy(this.names, 0, names, 0, index);
+            System.arraycopy(this.players, 0, players, 0, index);
+            System.arraycopy(this.names, index + 1, names, index, this.names.length - index - 1);
+            System.arraycopy(this.players, index + 1, players, index, this.players.length - index - 1);
+            return new Snapshot(names, players);
+        }
+    }
+}
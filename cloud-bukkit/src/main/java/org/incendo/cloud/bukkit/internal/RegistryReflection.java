@@ -24,6 +24,7 @@
 package org.incendo.cloud.bukkit.internal;
 
 import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -58,6 +59,8 @@ public final class RegistryReflection {
     );
     private static final Executable NEW_RESOURCE_LOCATION;
     private static final Executable CREATE_REGISTRY_RESOURCE_KEY;
+    private static final @Nullable MethodHandle REGISTRY_GET_HANDLE;
+    private static final @Nullable MethodHandle NEW_RESOURCE_LOCATION_HANDLE;
 
     private RegistryReflection() {
     }
@@ -70,6 +73,8 @@ public final class RegistryReflection {
             REGISTRY_KEY = null;
             NEW_RESOURCE_LOCATION = null;
             CREATE_REGISTRY_RESOURCE_KEY = null;
+            REGISTRY_GET_HANDLE = null;
+            NEW_RESOURCE_LOCATION_HANDLE = null;
         } else {
             registryClass = CraftBukkitReflection.firstNonNullOrThrow(
                     () -> "Registry",
@@ -103,6 +108,9 @@ public final class RegistryReflection {
                 CraftBukkitReflection.findMethod(RESOURCE_KEY_CLASS, "createRegistryKey", IDENTIFIER_CLASS),
                 CraftBukkitReflection.findMethod(RESOURCE_KEY_CLASS, "a", IDENTIFIER_CLASS)
             );
+
+            REGISTRY_GET_HANDLE = CraftBukkitReflection.compile(REGISTRY_GET);
+            NEW_RESOURCE_LOCATION_HANDLE = CraftBukkitReflection.compile(NEW_RESOURCE_LOCATION);
         }
     }
 
@@ -117,11 +125,12 @@ public final class RegistryReflection {
     }
 
     public static Object get(final Object registry, final String resourceLocation) {
-        Objects.requireNonNull(REGISTRY_GET, "REGISTRY_GET");
+        Objects.requireNonNull(REGISTRY_GET_HANDLE, "REGISTRY_GET");
+        final Object key = RegistryReflection.createResourceLocation(resourceLocation);
         try {
-            return REGISTRY_GET.invoke(registry, RegistryReflection.createResourceLocation(resourceLocation));
-        } catch (final ReflectiveOperationException e) {
-            throw new RuntimeException(e);
+            return (Object) REGISTRY_GET_HANDLE.invokeExact(registry, key);
+        } catch (final Throwable thr) {
+            throw CraftBukkitReflection.propagate(thr);
         }
     }
 
@@ -135,10 +144,11 @@ public final class RegistryReflection {
     }
 
     public static Object createResourceLocation(final String str) {
+        Objects.requireNonNull(NEW_RESOURCE_LOCATION_HANDLE, "NEW_RESOURCE_LOCATION");
         try {
-            return CraftBukkitReflection.invokeConstructorOrStaticMethod(NEW_RESOURCE_LOCATION, str);
-        } catch (final ReflectiveOperationException e) {
-            throw new RuntimeException(e);
+            return (Object) NEW_RESOURCE_LOCATION_HANDLE.invokeExact((Object) str);
+        } catch (final Throwable thr) {
+            throw CraftBukkitReflection.propagate(thr);
         }
     }
 
@@ -0,0 +1,266 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.key.CloudKey;
+
+/**
+ * Caches resolved entity selector results until the end of the current server tick, so that commands run repeatedly
+ * within one tick (i.e. from command blocks or functions) do not query the world again for the same selector.
+ *
+ * <p>Results are keyed by the normalized selector string, the kind of result, the Bukkit sender and the position and
+ * world of the native command source. The cache is only consulted on the main thread of non-Folia servers.</p>
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class SelectorResultCache {
+
+    /**
+     * Key used to store the cache of the command manager in the command context.
+     */
+    public static final CloudKey<SelectorResultCache> KEY = CloudKey.of("cloud:selector_result_cache", SelectorResultCache.class);
+
+    private static final boolean FOLIA = CraftBukkitReflection.classExists("io.papermc.paper.threadedregions.RegionizedServer");
+    private static final ClassValue<Optional<SourceAccessors>> SOURCE_ACCESSORS = new ClassValue<Optional<SourceAccessors>>() {
+        @Override
+        protected Optional<SourceAccessors> computeValue(final Class<?> type) {
+            return Optional.ofNullable(SourceAccessors.find(type));
+        }
+    };
+
+    private final Plugin plugin;
+    private final Map<Key, Object> results = new HashMap<>();
+    private boolean clearScheduled;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param plugin plugin used to schedule the end of tick clean up
+     */
+    public SelectorResultCache(final @NonNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Returns the cached result for the given selector, or resolves and caches it.
+     *
+     * <p>Exceptions thrown by the {@code resolver} are propagated and nothing is cached.</p>
+     *
+     * @param <T>          result type
+     * @param selector     the selector input
+     * @param kind         the kind of result, i.e. single entity or all players
+     * @param sender       the Bukkit sender
+     * @param nativeSource the native command source
+     * @param resolver     resolver for the result
+     * @return the result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> @NonNull T computeIfAbsent(
+            final @NonNull String selector,
+            final @NonNull String kind,
+            final @NonNull CommandSender sender,
+            final @NonNull Object nativeSource,
+            final @NonNull Supplier<@NonNull T> resolver
+    ) {
+        if (FOLIA || !Bukkit.isPrimaryThread() || !this.plugin.isEnabled()) {
+            return resolver.get();
+        }
+        final @Nullable SourceAccessors accessors = SOURCE_ACCESSORS.get(nativeSource.getClass()).orElse(null);
+        if (accessors == null) {
+            return resolver.get();
+        }
+        final Key key = new Key(normalize(selector), kind, sender, accessors.position(nativeSource), accessors.level(nativeSource));
+        final @Nullable Object cached = this.results.get(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        final T result = resolver.get();
+        this.results.put(key, result);
+        if (!this.clearScheduled) {
+            this.clearScheduled = true;
+            Bukkit.getScheduler().runTask(this.plugin, this::clear);
+        }
+        return result;
+    }
+
+    private void clear() {
+        this.results.clear();
+        this.clearScheduled = false;
+    }
+
+    /**
+     * Removes whitespace outside of quoted strings, as Vanilla ignores it between selector arguments.
+     *
+     * @param selector selector input
+     * @return normalized selector
+     */
+    static @NonNull String normalize(final @NonNull String selector) {
+        final StringBuilder builder = new StringBuilder(selector.length());
+        char quote = 0;
+        boolean escaped = false;
+        for (int i = 0; i < selector.length(); i++) {
+            final char c = selector.charAt(i);
+            if (quote != 0) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (Character.isWhitespace(c)) {
+                continue;
+            }
+            builder.append(c);
+        }
+        return builder.length() == selector.length() ? selector : builder.toString();
+    }
+
+    private static final class SourceAccessors {
+
+        private final MethodHandle position;
+        private final MethodHandle level;
+
+        private SourceAccessors(final @NonNull MethodHandle position, final @NonNull MethodHandle level) {
+            this.position = position;
+            this.level = level;
+        }
+
+        static @Nullable SourceAccessors find(final @NonNull Class<?> sourceClass) {
+            final @Nullable Class<?> vec3Class = CraftBukkitReflection.firstNonNullOrNull(
+                    CraftBukkitReflection.findMCClass("world.phys.Vec3"),
+                    CraftBukkitReflection.findMCClass("world.phys.Vec3D"),
+                    CraftBukkitReflection.findNMSClass("Vec3D")
+            );
+            final @Nullable Class<?> levelClass = CraftBukkitReflection.firstNonNullOrNull(
+                    CraftBukkitReflection.findMCClass("server.level.ServerLevel"),
+                    CraftBukkitReflection.findMCClass("server.level.WorldServer"),
+                    CraftBukkitReflection.findNMSClass("WorldServer")
+            );
+            if (vec3Class == null || levelClass == null) {
+                return null;
+            }
+            final @Nullable Method position = onlyGetter(sourceClass, vec3Class);
+            final @Nullable Method level = onlyGetter(sourceClass, levelClass);
+            if (position == null || level == null) {
+                return null;
+            }
+            return new SourceAccessors(CraftBukkitReflection.compile(position), CraftBukkitReflection.compile(level));
+        }
+
+        private static @Nullable Method onlyGetter(final @NonNull Class<?> holder, final @NonNull Class<?> returnType) {
+            final List<Method> candidates = new ArrayList<>(1);
+            for (final Method method : holder.getMethods()) {
+                if (method.getParameterCount() == 0
+                        && !Modifier.isStatic(method.getModifiers())
+                        && method.getReturnType() == returnType) {
+                    candidates.add(method);
+                }
+            }
+            // Ambiguous accessors would make the cache key unreliable
+            return candidates.size() == 1 ? candidates.get(0) : null;
+        }
+
+        @NonNull Object position(final @NonNull Object source) {
+            try {
+                return (Object) this.position.invokeExact(source);
+            } catch (final Throwable thr) {
+                throw CraftBukkitReflection.propagate(thr);
+            }
+        }
+
+        @NonNull Object level(final @NonNull Object source) {
+            try {
+                return (Object) this.level.invokeExact(source);
+            } catch (final Throwable thr) {
+                throw CraftBukkitReflection.propagate(thr);
+            }
+        }
+    }
+
+    private static final class Key {
+
+        private final String selector;
+        private final String kind;
+        private final CommandSender sender;
+        private final Object position;
+        private final Object level;
+
+        private Key(
+                final @NonNull String selector,
+                final @NonNull String kind,
+                final @NonNull CommandSender sender,
+                final @NonNull Object position,
+                final @NonNull Object level
+        ) {
+            this.selector = selector;
+            this.kind = kind;
+            this.sender = sender;
+            this.position = position;
+            this.level = level;
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) object;
+            // Senders and levels are compared by identity, positions are value objects
+            return this.sender == that.sender
+                    && this.level == that.level
+                    && this.selector.equals(that.selector)
+                    && this.kind.equals(that.kind)
+                    && this.position.equals(that.position);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.selector, this.kind, System.identityHashCode(this.sender), this.position,
+                    System.identityHashCode(this.level));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.suggestion.Suggestion;
+
+/**
+ * Immutable, sorted table of suggestions which can be shared between suggestion requests. Suggestions starting
+ * with a given prefix are found by binary search and returned as views of the table.
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class SuggestionTable {
+
+    private final String[] keys;
+    private final List<String> strings;
+    private final List<Suggestion> suggestions;
+
+    private SuggestionTable(final @NonNull String[] strings) {
+        this.keys = new String[strings.length];
+        final List<Suggestion> suggestions = new ArrayList<>(strings.length);
+        for (int i = 0; i < strings.length; i++) {
+            this.keys[i] = strings[i].toLowerCase(Locale.ROOT);
+            suggestions.add(Suggestion.suggestion(strings[i]));
+        }
+        this.strings = Collections.unmodifiableList(Arrays.asList(strings));
+        this.suggestions = Collections.unmodifiableList(suggestions);
+    }
+
+    /**
+     * Creates a table of the given suggestions.
+     *
+     * @param strings suggestions
+     * @return the table
+     */
+    public static @NonNull SuggestionTable of(final @NonNull Collection<@NonNull String> strings) {
+        final String[] sorted = strings.toArray(new String[0]);
+        Arrays.sort(sorted, Comparator.comparing(string -> string.toLowerCase(Locale.ROOT)));
+        return new SuggestionTable(sorted);
+    }
+
+    /**
+     * Returns the suggestions starting with the given prefix, ignoring case.
+     *
+     * @param prefix prefix
+     * @return view of the matching suggestions
+     */
+    public @NonNull List<@NonNull String> strings(final @NonNull String prefix) {
+        if (prefix.isEmpty()) {
+            return this.strings;
+        }
+        final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        final int start = this.start(lowerPrefix);
+        return this.strings.subList(start, this.end(start, lowerPrefix));
+    }
+
+    /**
+     * Returns the suggestions starting with the given prefix, ignoring case.
+     *
+     * @param prefix prefix
+     * @return view of the matching suggestions
+     */
+    public @NonNull List<@NonNull Suggestion> suggestions(final @NonNull String prefix) {
+        if (prefix.isEmpty()) {
+            return this.suggestions;
+        }
+        final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        final int start = this.start(lowerPrefix);
+        return this.suggestions.subList(start, this.end(start, lowerPrefix));
+    }
+
+    /**
+     * Returns the index of the first key that is not less than the given prefix.
+     *
+     * @param lowerPrefix lower case prefix
+     * @return the index
+     */
+    private int start(final @NonNull String lowerPrefix) {
+        int low = 0;
+        int high = this.keys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.keys[mid].compareTo(lowerPrefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first key from {@code start} that does not start with the given prefix. The keys
+     * starting with the prefix are contiguous, as they are sorted.
+     *
+     * @param start       index of the first key that is not less than the prefix
+     * @param lowerPrefix lower case prefix
+     * @return the index
+     */
+    private int end(final int start, final @NonNull String lowerPrefix) {
+        int low = start;
+        int high = this.keys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.keys[mid].startsWith(lowerPrefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -25,22 +25,34 @@ package org.incendo.cloud.bukkit.parser;
 
 import com.google.common.base.Suppliers;
 import com.mojang.brigadier.arguments.ArgumentType;
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.bukkit.NamespacedKey;
+import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.data.BlockPredicate;
-import org.incendo.cloud.bukkit.internal.CommandBuildContextSupplier;
+import org.incendo.cloud.bukkit.internal.BuildContextArgumentTypes;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
 import org.incendo.cloud.bukkit.internal.MinecraftArgumentTypes;
 import org.incendo.cloud.bukkit.internal.RegistryReflection;
@@ -102,19 +114,8 @@ public final class BlockPredicateParser<C> implements ArgumentParser.FutureArgum
 
     @SuppressWarnings("unchecked")
     private ArgumentParser<C, BlockPredicate> createParser() {
-        final Supplier<ArgumentType<Object>> inst = () -> {
-            final Constructor<?> ctr = Reflection.ARGUMENT_BLOCK_PREDICATE_CLASS.get().getDeclaredConstructors()[0];
-            try {
-                if (ctr.getParameterCount() == 0) {
-                    return (ArgumentType<Object>) ctr.newInstance();
-                } else {
-                    // 1.19+
-                    return (ArgumentType<Object>) ctr.newInstance(CommandBuildContextSupplier.commandBuildContext());
-                }
-            } catch (final ReflectiveOperationException e) {
-                throw new RuntimeException("Failed to initialize BlockPredicate parser.", e);
-            }
-        };
+        final Supplier<ArgumentType<Object>> inst =
+                BuildContextArgumentTypes.cached(Reflection.ARGUMENT_BLOCK_PREDICATE_CLASS, "BlockPredicate");
         return new WrappedBrigadierParser<C, Object>(inst).flatMapSuccess((ctx, result) -> {
             if (result instanceof Predicate) {
                 // 1.19+
@@ -166,42 +167,90 @@ public final class BlockPredicateParser<C> implements ArgumentParser.FutureArgum
     private static final class BlockPredicateImpl implements BlockPredicate {
 
         private final Predicate<Object> predicate;
+        private final boolean loadChunks;
+        private final @Nullable Map<BlockData, Boolean> compiled;
 
         BlockPredicateImpl(final @NonNull Predicate<Object> predicate) {
+            this(predicate, false, null);
+        }
+
+        private BlockPredicateImpl(
+                final @NonNull Predicate<Object> predicate,
+                final boolean loadChunks,
+                final @Nullable Map<BlockData, Boolean> compiled
+        ) {
             this.predicate = predicate;
+            this.loadChunks = loadChunks;
+            this.compiled = compiled;
         }
 
-        private boolean testImpl(final @NonNull Block block, final boolean loadChunks) {
+        private boolean testImpl(final @NonNull Block block, final @NonNull Object level) {
+            final @Nullable Map<BlockData, Boolean> compiled = this.compiled;
+            if (compiled == null) {
+                return this.testUncompiled(block, level);
+            }
+            if (!this.loadChunks && !block.getWorld().isChunkLoaded(block.getX() >> 4, block.getZ() >> 4)) {
+                return false;
+            }
+            final BlockData blockData = block.getBlockData();
+            final @Nullable Boolean cached = compiled.get(blockData);
+            if (cached != null) {
+                return cached;
+            }
+            final boolean result = this.testUncompiled(block, level);
+            compiled.put(blockData, result);
+            return result;
+        }
+
+        private boolean testUncompiled(final @NonNull Block block, final @NonNull Object level) {
             try {
-                final Object blockInWorld = Reflection.SHAPE_DETECTOR_BLOCK_CTR.newInstance(
-                        Reflection.GET_HANDLE_METHOD.invoke(block.getWorld()),
-                        Reflection.BLOCK_POSITION_CTR.newInstance(block.getX(), block.getY(), block.getZ()),
-                        loadChunks
-                );
+                final Object blockPos = (Object) Reflection.NEW_BLOCK_POSITION.invokeExact(block.getX(), block.getY(), block.getZ());
+                final Object blockInWorld = (Object) Reflection.NEW_SHAPE_DETECTOR_BLOCK.invokeExact(level, blockPos, this.loadChunks);
                 return this.predicate.test(blockInWorld);
-            } catch (final ReflectiveOperationException ex) {
-                throw new RuntimeException(ex);
+            } catch (final Throwable thr) {
+                throw CraftBukkitReflection.propagate(thr);
             }
         }
 
         @Override
         public boolean test(final @NonNull Block block) {
-            return this.testImpl(block, false);
+            return this.testImpl(block, Reflection.level(block.getWorld()));
         }
 
         @Override
-        public @NonNull BlockPredicate loadChunks() {
-            return new BlockPredicate() {
-                @Override
-                public @NonNull BlockPredicate loadChunks() {
-                    return this;
+        public @NonNull BitSet test(final @NonNull Collection<? extends @NonNull Block> blocks) {
+            final BitSet matches = new BitSet(blocks.size());
+            @Nullable World world = null;
+            @Nullable Object level = null;
+            int index = 0;
+            for (final Block block : blocks) {
+                // Blocks are usually from the same world, only resolve the level when it changes
+                if (block.getWorld() != world) {
+                    world = block.getWorld();
+                    level = Reflection.level(world);
                 }
-
-                @Override
-                public boolean test(final Block block) {
-                    return BlockPredicateImpl.this.testImpl(block, true);
+                if (this.testImpl(block, level)) {
+                    matches.set(index);
                 }
-            };
+                index++;
+            }
+            return matches;
+        }
+
+        @Override
+        public @NonNull BlockPredicate loadChunks() {
+            if (this.loadChunks) {
+                return this;
+            }
+            return new BlockPredicateImpl(this.predicate, true, this.compiled);
+        }
+
+        @Override
+        public @NonNull BlockPredicate compile() {
+            if (this.compiled != null || !Reflection.isStateOnly(this.predicate)) {
+                return this;
+            }
+            return new BlockPredicateImpl(this.predicate, this.loadChunks, new ConcurrentHashMap<>());
         }
     }
 
@@ -262,11 +311,36 @@ public final class BlockPredicateParser<C> implements ArgumentParser.FutureArgum
             CraftBukkitReflection.findMCClass("core.BlockPosition"),
             CraftBukkitReflection.findMCClass("core.BlockPos")
         );
-        private static final Constructor<?> BLOCK_POSITION_CTR =
-            CraftBukkitReflection.needConstructor(BLOCK_POSITION_CLASS, int.class, int.class, int.class);
-        private static final Constructor<?> SHAPE_DETECTOR_BLOCK_CTR = CraftBukkitReflection
-            .needConstructor(SHAPE_DETECTOR_BLOCK_CLASS, LEVEL_READER_CLASS, BLOCK_POSITION_CLASS, boolean.class);
-        private static final Method GET_HANDLE_METHOD = CraftBukkitReflection.needMethod(CRAFT_WORLD_CLASS, "getHandle");
+        private static final MethodHandle NEW_BLOCK_POSITION = CraftBukkitReflection.compile(
+            CraftBukkitReflection.needConstructor(BLOCK_POSITION_CLASS, int.class, int.class, int.class)
+        ).asType(MethodType.methodType(Object.class, int.class, int.class, int.class));
+        private static final MethodHandle NEW_SHAPE_DETECTOR_BLOCK = CraftBukkitReflection.compile(
+            CraftBukkitReflection.needConstructor(SHAPE_DETECTOR_BLOCK_CLASS, LEVEL_READER_CLASS, BLOCK_POSITION_CLASS, boolean.class)
+        ).asType(MethodType.methodType(Object.class, Object.class, Object.class, boolean.class));
+        private static final MethodHandle GET_HANDLE =
+            CraftBukkitReflection.compile(CraftBukkitReflection.needMethod(CRAFT_WORLD_CLASS, "getHandle"));
+        private static final Class<?> COMPOUND_TAG_CLASS = CraftBukkitReflection.firstNonNullOrThrow(
+            () -> "Couldn't find CompoundTag class",
+            CraftBukkitReflection.findNMSClass("NBTTagCompound"),
+            CraftBukkitReflection.findMCClass("nbt.NBTTagCompound"),
+            CraftBukkitReflection.findMCClass("nbt.CompoundTag")
+        );
+        /**
+         * Getters for the NBT fields of a predicate class. A class without such fields is not one of the predicates
+         * created by Minecraft, and its results can therefore not be assumed to depend on the block state only.
+         */
+        private static final ClassValue<List<MethodHandle>> NBT_GETTERS = new ClassValue<List<MethodHandle>>() {
+            @Override
+            protected List<MethodHandle> computeValue(final @NonNull Class<?> type) {
+                final List<MethodHandle> getters = new ArrayList<>();
+                for (final Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && COMPOUND_TAG_CLASS.equals(field.getType())) {
+                        getters.add(CraftBukkitReflection.compileGetter(field));
+                    }
+                }
+                return getters.isEmpty() ? Collections.emptyList() : getters;
+            }
+        };
         private static final @Nullable Method CREATE_PREDICATE_METHOD = CraftBukkitReflection.firstNonNullOrNull(
             CraftBukkitReflection.findMethod(ARGUMENT_BLOCK_PREDICATE_RESULT_CLASS, "create", TAG_CONTAINER_CLASS),
             CraftBukkitReflection.findMethod(ARGUMENT_BLOCK_PREDICATE_RESULT_CLASS, "a", TAG_CONTAINER_CLASS)
@@ -283,5 +357,37 @@ public final class BlockPredicateParser<C> implements ArgumentParser.FutureArgum
                 .findFirst()
                 .orElse(null)
         );
+
+        private static @NonNull Object level(final @NonNull World world) {
+            try {
+                return (Object) GET_HANDLE.invokeExact((Object) world);
+            } catch (final Throwable thr) {
+                throw CraftBukkitReflection.propagate(thr);
+            }
+        }
+
+        /**
+         * Returns whether the result of the given predicate only depends on the state of the tested block, which is the
+         * case for the block and tag predicates created by Minecraft when they do not match NBT data.
+         *
+         * @param predicate predicate
+         * @return whether the predicate only depends on the block state
+         */
+        private static boolean isStateOnly(final @NonNull Predicate<Object> predicate) {
+            final List<MethodHandle> nbtGetters = NBT_GETTERS.get(predicate.getClass());
+            if (nbtGetters.isEmpty()) {
+                return false;
+            }
+            try {
+                for (final MethodHandle getter : nbtGetters) {
+                    if ((Object) getter.invokeExact((Object) predicate) != null) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (final Throwable thr) {
+                throw CraftBukkitReflection.propagate(thr);
+            }
+        }
     }
 }
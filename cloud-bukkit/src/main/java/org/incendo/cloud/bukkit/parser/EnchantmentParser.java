@@ -23,13 +23,12 @@
 //
 package org.incendo.cloud.bukkit.parser;
 
-import java.util.ArrayList;
-import java.util.List;
 import org.apiguardian.api.API;
 import org.bukkit.NamespacedKey;
 import org.bukkit.enchantments.Enchantment;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.bukkit.BukkitCaptionKeys;
+import org.incendo.cloud.bukkit.internal.EnchantmentSuggestions;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
@@ -96,15 +95,7 @@ public final class EnchantmentParser<C> implements ArgumentParser<C, Enchantment
     @Override
     public @NonNull Iterable<@NonNull String> stringSuggestions(final @NonNull CommandContext<C> commandContext,
                                                                 final @NonNull CommandInput input) {
-        final List<String> completions = new ArrayList<>();
-        for (Enchantment value : Enchantment.values()) {
-            if (value.getKey().getNamespace().equals(NamespacedKey.MINECRAFT)) {
-                completions.add(value.getKey().getKey());
-            } else {
-                completions.add(value.getKey().toString());
-            }
-        }
-        return completions;
+        return EnchantmentSuggestions.table().strings(input.peekString());
     }
 
 
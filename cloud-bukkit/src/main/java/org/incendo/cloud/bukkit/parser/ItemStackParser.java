@@ -26,9 +26,9 @@ package org.incendo.cloud.bukkit.parser;
 import com.google.common.base.Suppliers;
 import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
@@ -45,7 +45,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.data.ProtoItemStack;
-import org.incendo.cloud.bukkit.internal.CommandBuildContextSupplier;
+import org.incendo.cloud.bukkit.internal.BuildContextArgumentTypes;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
 import org.incendo.cloud.bukkit.internal.MinecraftArgumentTypes;
 import org.incendo.cloud.component.CommandComponent;
@@ -153,38 +153,43 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
                 "Item",
                 "net.minecraft.world.item.Item"
         );
-        private static final Supplier<Method> GET_MATERIAL_METHOD = Suppliers.memoize(() -> CraftBukkitReflection
-                .needMethod(CraftBukkitReflection.needOBCClass("util.CraftMagicNumbers"), "getMaterial", NMS_ITEM_CLASS));
-        private static final Method CREATE_ITEM_STACK_METHOD = CraftBukkitReflection.firstNonNullOrThrow(
+        private static final Supplier<MethodHandle> GET_MATERIAL = Suppliers.memoize(() -> CraftBukkitReflection.compile(
+                CraftBukkitReflection.needMethod(
+                        CraftBukkitReflection.needOBCClass("util.CraftMagicNumbers"),
+                        "getMaterial",
+                        NMS_ITEM_CLASS
+                )
+        ));
+        private static final MethodHandle CREATE_ITEM_STACK = createItemStackHandle(CraftBukkitReflection.firstNonNullOrThrow(
                 () -> "Couldn't find createItemStack method on ItemInput",
                 CraftBukkitReflection.findMethod(ITEM_INPUT_CLASS, "a", int.class, boolean.class),
                 CraftBukkitReflection.findMethod(ITEM_INPUT_CLASS, "createItemStack", int.class, boolean.class),
                 CraftBukkitReflection.findMethod(ITEM_INPUT_CLASS, "createItemStack", int.class)
-        );
-        private static final Method AS_BUKKIT_STACK_METHOD = CraftBukkitReflection.firstNonNullOrThrow(
+        ));
+        private static final MethodHandle AS_BUKKIT_STACK = CraftBukkitReflection.compile(CraftBukkitReflection.firstNonNullOrThrow(
             () -> "Couldn't find asBukkitCopy or asCraftMirror method on CraftItemStack",
             CraftBukkitReflection.findMethod(CRAFT_ITEM_STACK_CLASS, "asBukkitCopy", NMS_ITEM_STACK_CLASS),
             CraftBukkitReflection.findMethod(CRAFT_ITEM_STACK_CLASS, "asCraftMirror", NMS_ITEM_STACK_CLASS)
-        );
-        private static final Field ITEM_FIELD = CraftBukkitReflection.firstNonNullOrThrow(
+        ));
+        private static final MethodHandle ITEM_GETTER = CraftBukkitReflection.compileGetter(CraftBukkitReflection.firstNonNullOrThrow(
                 () -> "Couldn't find item field on ItemInput",
                 CraftBukkitReflection.findField(ITEM_INPUT_CLASS, "b"),
                 CraftBukkitReflection.findField(ITEM_INPUT_CLASS, "item")
-        );
-        private static final Field EXTRA_DATA_FIELD = CraftBukkitReflection.firstNonNullOrThrow(
+        ));
+        private static final MethodHandle EXTRA_DATA_GETTER = CraftBukkitReflection.compileGetter(CraftBukkitReflection.firstNonNullOrThrow(
                 () -> "Couldn't find tag field on ItemInput",
                 CraftBukkitReflection.findField(ITEM_INPUT_CLASS, "c"),
                 CraftBukkitReflection.findField(ITEM_INPUT_CLASS, "tag"),
                 CraftBukkitReflection.findField(ITEM_INPUT_CLASS, "components")
-        );
+        ));
         private static final Class<?> HOLDER_CLASS = CraftBukkitReflection.findMCClass("core.Holder");
-        private static final @Nullable Method VALUE_METHOD = HOLDER_CLASS == null
+        private static final @Nullable MethodHandle HOLDER_VALUE = HOLDER_CLASS == null
                 ? null
-                : CraftBukkitReflection.firstNonNullOrThrow(
+                : CraftBukkitReflection.compile(CraftBukkitReflection.firstNonNullOrThrow(
                         () -> "Couldn't find Holder#value",
                         CraftBukkitReflection.findMethod(HOLDER_CLASS, "value"),
                         CraftBukkitReflection.findMethod(HOLDER_CLASS, "a")
-                );
+                ));
         private static final Class<?> NBT_TAG_CLASS = CraftBukkitReflection.firstNonNullOrThrow(
             () -> "Cloud not find net.minecraft.nbt.Tag",
             CraftBukkitReflection.findClass("net.minecraft.nbt.Tag"),
@@ -192,27 +197,80 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
             CraftBukkitReflection.findNMSClass("NBTBase")
         );
 
+        /**
+         * Conversions from an item input to the data exposed by {@link ModernProtoItemStack}, compiled once on first use.
+         */
+        private static final class ConversionPlan {
+
+            /**
+             * {@code (Object itemInput) -> Material}, reading the item, unwrapping its holder if needed and mapping it
+             * through {@code CraftMagicNumbers#getMaterial}.
+             */
+            static final MethodHandle MATERIAL = materialHandle();
+
+            /**
+             * {@code (Object extraData) -> boolean} per extra data class, returning whether the extra data is empty.
+             * NBT tags are never empty, while data component maps and patches are checked with their {@code isEmpty} method.
+             */
+            static final ClassValue<MethodHandle> IS_EMPTY = new ClassValue<MethodHandle>() {
+                @Override
+                protected MethodHandle computeValue(final @NonNull Class<?> type) {
+                    if (NBT_TAG_CLASS.isAssignableFrom(type)) {
+                        return MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object.class);
+                    }
+                    final List<Method> isEmptyMethod = Arrays.stream(type.getMethods())
+                            .filter(it -> it.getParameterCount() == 0 && it.getReturnType().equals(boolean.class))
+                            .collect(Collectors.toList());
+                    if (isEmptyMethod.size() != 1) {
+                        throw new IllegalStateException(
+                                "Failed to locate DataComponentMap/Patch#isEmpty; size=" + isEmptyMethod.size());
+                    }
+                    return CraftBukkitReflection.compile(isEmptyMethod.get(0))
+                            .asType(MethodType.methodType(boolean.class, Object.class));
+                }
+            };
+
+            private ConversionPlan() {
+            }
+
+            private static MethodHandle materialHandle() {
+                MethodHandle item = ITEM_GETTER;
+                if (HOLDER_VALUE != null) {
+                    final MethodHandle isHolder;
+                    try {
+                        isHolder = MethodHandles.publicLookup()
+                                .findVirtual(Class.class, "isInstance", MethodType.methodType(boolean.class, Object.class))
+                                .bindTo(HOLDER_CLASS);
+                    } catch (final ReflectiveOperationException e) {
+                        throw new RuntimeException(e);
+                    }
+                    item = MethodHandles.filterReturnValue(
+                            item,
+                            MethodHandles.guardWithTest(isHolder, HOLDER_VALUE, MethodHandles.identity(Object.class))
+                    );
+                }
+                return MethodHandles.filterReturnValue(item, GET_MATERIAL.get());
+            }
+        }
+
         private final ArgumentParser<C, ProtoItemStack> parser;
 
         ModernParser() {
             this.parser = this.createParser();
         }
 
+        private static MethodHandle createItemStackHandle(final Method method) {
+            MethodHandle handle = CraftBukkitReflection.compile(method);
+            if (method.getParameterCount() == 2) {
+                // createItemStack(int, boolean), always validate the stack size
+                handle = MethodHandles.insertArguments(handle, 2, true);
+            }
+            return handle.asType(MethodType.methodType(Object.class, Object.class, int.class));
+        }
+
         @SuppressWarnings("unchecked")
         private ArgumentParser<C, ProtoItemStack> createParser() {
-            final Supplier<ArgumentType<Object>> inst = () -> {
-                final Constructor<?> ctr = ARGUMENT_ITEM_STACK_CLASS.get().getDeclaredConstructors()[0];
-                try {
-                    if (ctr.getParameterCount() == 0) {
-                        return (ArgumentType<Object>) ctr.newInstance();
-                    } else {
-                        // 1.19+
-                        return (ArgumentType<Object>) ctr.newInstance(CommandBuildContextSupplier.commandBuildContext());
-                    }
-                } catch (final ReflectiveOperationException e) {
-                    throw new RuntimeException("Failed to initialize modern ItemStack parser.", e);
-                }
-            };
+            final Supplier<ArgumentType<Object>> inst = BuildContextArgumentTypes.cached(ARGUMENT_ITEM_STACK_CLASS, "modern ItemStack");
             return new WrappedBrigadierParser<C, Object>(inst)
                     .flatMapSuccess((ctx, itemInput) -> ArgumentParseResult.successFuture(
                             new ModernProtoItemStack(itemInput)));
@@ -242,26 +300,12 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
             ModernProtoItemStack(final @NonNull Object itemInput) {
                 this.itemInput = itemInput;
                 try {
-                    Object item = ITEM_FIELD.get(itemInput);
-                    if (HOLDER_CLASS != null && HOLDER_CLASS.isInstance(item)) {
-                        item = VALUE_METHOD.invoke(item);
-                    }
-                    this.material = (Material) GET_MATERIAL_METHOD.get().invoke(null, item);
-                    final Object extraData = EXTRA_DATA_FIELD.get(itemInput);
-                    if (NBT_TAG_CLASS.isInstance(extraData) || extraData == null) {
-                        this.hasExtraData = extraData != null;
-                    } else {
-                        final List<Method> isEmptyMethod = Arrays.stream(extraData.getClass().getMethods())
-                            .filter(it -> it.getParameterCount() == 0 && it.getReturnType().equals(boolean.class))
-                            .collect(Collectors.toList());
-                        if (isEmptyMethod.size() != 1) {
-                            throw new IllegalStateException(
-                                "Failed to locate DataComponentMap/Patch#isEmpty; size=" + isEmptyMethod.size());
-                        }
-                        this.hasExtraData = !(boolean) isEmptyMethod.get(0).invoke(extraData);
-                    }
-                } catch (final ReflectiveOperationException ex) {
-                    throw new RuntimeException(ex);
+                    this.material = (Material) (Object) ConversionPlan.MATERIAL.invokeExact(itemInput);
+                    final Object extraData = (Object) EXTRA_DATA_GETTER.invokeExact(itemInput);
+                    this.hasExtraData = extraData != null
+                            && !(boolean) ConversionPlan.IS_EMPTY.get(extraData.getClass()).invokeExact(extraData);
+                } catch (final Throwable thr) {
+                    throw CraftBukkitReflection.propagate(thr);
                 }
             }
 
@@ -278,21 +322,12 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
             @Override
             public @NonNull ItemStack createItemStack(final int stackSize) {
                 try {
-                    final Object nmsItemStack = CREATE_ITEM_STACK_METHOD.getParameterCount() == 1
-                            ? CREATE_ITEM_STACK_METHOD.invoke(this.itemInput, stackSize)
-                            : CREATE_ITEM_STACK_METHOD.invoke(this.itemInput, stackSize, true);
-                    return (ItemStack) AS_BUKKIT_STACK_METHOD.invoke(
-                            null,
-                            nmsItemStack
-                    );
-                } catch (final InvocationTargetException ex) {
-                    final Throwable cause = ex.getCause();
-                    if (cause instanceof CommandSyntaxException) {
-                        throw new IllegalArgumentException(cause.getMessage(), cause);
-                    }
-                    throw new RuntimeException(ex);
-                } catch (final ReflectiveOperationException e) {
-                    throw new RuntimeException(e);
+                    final Object nmsItemStack = (Object) CREATE_ITEM_STACK.invokeExact(this.itemInput, stackSize);
+                    return (ItemStack) (Object) AS_BUKKIT_STACK.invokeExact(nmsItemStack);
+                } catch (final CommandSyntaxException ex) {
+                    throw new IllegalArgumentException(ex.getMessage(), ex);
+                } catch (final Throwable thr) {
+                    throw CraftBukkitReflection.propagate(thr);
                 }
             }
         }
@@ -26,14 +26,20 @@ package org.incendo.cloud.bukkit.parser;
 import com.google.common.base.Suppliers;
 import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.context.StringRange;
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.apiguardian.api.API;
+import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -42,7 +48,7 @@ import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.data.ItemStackPredicate;
-import org.incendo.cloud.bukkit.internal.CommandBuildContextSupplier;
+import org.incendo.cloud.bukkit.internal.BuildContextArgumentTypes;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
 import org.incendo.cloud.bukkit.internal.MinecraftArgumentTypes;
 import org.incendo.cloud.component.CommandComponent;
@@ -89,8 +95,33 @@ public final class ItemStackPredicateParser<C> implements ArgumentParser.FutureA
                             com.mojang.brigadier.context.CommandContext.class
                     )
             );
-    private static final Method AS_NMS_COPY_METHOD =
-            CraftBukkitReflection.needMethod(CRAFT_ITEM_STACK_CLASS, "asNMSCopy", ItemStack.class);
+    private static final MethodHandle AS_NMS_COPY = CraftBukkitReflection.compile(
+            CraftBukkitReflection.needMethod(CRAFT_ITEM_STACK_CLASS, "asNMSCopy", ItemStack.class)
+    );
+    private static final MethodHandle CRAFT_ITEM_STACK_HANDLE_GETTER = CraftBukkitReflection.compileGetter(
+            CraftBukkitReflection.needField(CRAFT_ITEM_STACK_CLASS, "handle")
+    );
+    private static final Class<?> NMS_ITEM_CLASS = CraftBukkitReflection.needNMSClassOrElse(
+            "Item",
+            "net.minecraft.world.item.Item"
+    );
+    private static final Supplier<MethodHandle> GET_MATERIAL = Suppliers.memoize(() -> CraftBukkitReflection.compile(
+            CraftBukkitReflection.needMethod(CraftBukkitReflection.needOBCClass("util.CraftMagicNumbers"), "getMaterial", NMS_ITEM_CLASS)
+    ));
+    /**
+     * The class of the vanilla predicates that match a single item, optionally with NBT. Later versions match item
+     * components instead, and have no such class.
+     */
+    private static final @Nullable Class<?> SINGLE_ITEM_PREDICATE_CLASS = CraftBukkitReflection.firstNonNullOrNull(
+            CraftBukkitReflection.findNMSClass("ArgumentItemPredicate$a"),
+            CraftBukkitReflection.findMCClass("commands.arguments.item.ArgumentItemPredicate$a"),
+            CraftBukkitReflection.findMCClass("commands.arguments.item.ItemPredicateArgument$ItemPredicate")
+    );
+    /**
+     * Getter for the item of {@link #SINGLE_ITEM_PREDICATE_CLASS}, or {@code null} if the class does not exist or does
+     * not declare exactly one item field.
+     */
+    private static final @Nullable MethodHandle ITEM_GETTER = singleItemGetter();
 
     /**
      * Creates a new item stack predicate parser.
@@ -129,19 +160,7 @@ public final class ItemStackPredicateParser<C> implements ArgumentParser.FutureA
 
     @SuppressWarnings("unchecked")
     private ArgumentParser<C, ItemStackPredicate> createParser() {
-        final Supplier<ArgumentType<Object>> inst = () -> {
-            final Constructor<?> ctr = ARGUMENT_ITEM_PREDICATE_CLASS.get().getDeclaredConstructors()[0];
-            try {
-                if (ctr.getParameterCount() == 0) {
-                    return (ArgumentType<Object>) ctr.newInstance();
-                } else {
-                    // 1.19+
-                    return (ArgumentType<Object>) ctr.newInstance(CommandBuildContextSupplier.commandBuildContext());
-                }
-            } catch (final ReflectiveOperationException e) {
-                throw new RuntimeException("Failed to initialize ItemPredicate parser.", e);
-            }
-        };
+        final Supplier<ArgumentType<Object>> inst = BuildContextArgumentTypes.cached(ARGUMENT_ITEM_PREDICATE_CLASS, "ItemPredicate");
 
         return new WrappedBrigadierParser<C, Object>(inst).flatMapSuccess((ctx, result) -> {
             if (result instanceof Predicate) {
@@ -203,21 +222,78 @@ public final class ItemStackPredicateParser<C> implements ArgumentParser.FutureA
     }
 
 
+    private static @Nullable MethodHandle singleItemGetter() {
+        if (SINGLE_ITEM_PREDICATE_CLASS == null || !Predicate.class.isAssignableFrom(SINGLE_ITEM_PREDICATE_CLASS)) {
+            return null;
+        }
+        final List<Field> fields = Arrays.stream(SINGLE_ITEM_PREDICATE_CLASS.getDeclaredFields())
+                .filter(it -> !Modifier.isStatic(it.getModifiers()) && NMS_ITEM_CLASS.equals(it.getType()))
+                .collect(Collectors.toList());
+        if (fields.size() != 1) {
+            return null;
+        }
+        return CraftBukkitReflection.compileGetter(fields.get(0));
+    }
+
+
     private static final class ItemStackPredicateImpl implements ItemStackPredicate {
 
         private final Predicate<Object> predicate;
+        private final @Nullable Material material;
 
         ItemStackPredicateImpl(final @NonNull Predicate<Object> predicate) {
             this.predicate = predicate;
+            this.material = material(predicate);
+        }
+
+        /**
+         * Returns the only material matched by the given predicate, if it is known. This is only the case for the
+         * vanilla predicate matching a single item, other predicates may be composed of several items or negated.
+         *
+         * @param predicate predicate
+         * @return the material, or {@code null} if the predicate may match more than one material
+         */
+        private static @Nullable Material material(final @NonNull Predicate<Object> predicate) {
+            if (ITEM_GETTER == null || predicate.getClass() != SINGLE_ITEM_PREDICATE_CLASS) {
+                return null;
+            }
+            try {
+                final Object item = (Object) ITEM_GETTER.invokeExact((Object) predicate);
+                return item == null ? null : (Material) (Object) GET_MATERIAL.get().invokeExact(item);
+            } catch (final Throwable thr) {
+                throw CraftBukkitReflection.propagate(thr);
+            }
         }
 
         @Override
         public boolean test(final @NonNull ItemStack itemStack) {
+            final Material type = itemStack.getType();
+            if (this.material != null && type != this.material && !type.isLegacy()) {
+                return false;
+            }
             try {
-                return this.predicate.test(AS_NMS_COPY_METHOD.invoke(null, itemStack));
-            } catch (final ReflectiveOperationException ex) {
-                throw new RuntimeException(ex);
+                return this.predicate.test(nmsStack(itemStack));
+            } catch (final Throwable thr) {
+                throw CraftBukkitReflection.propagate(thr);
+            }
+        }
+
+        /**
+         * Returns the NMS stack for the given stack. The stack backing a {@code CraftItemStack}, such as the contents
+         * of an inventory, is used directly, other stacks are copied.
+         *
+         * @param itemStack stack
+         * @return the NMS stack
+         * @throws Throwable if the conversion fails
+         */
+        private static @NonNull Object nmsStack(final @NonNull ItemStack itemStack) throws Throwable {
+            if (CRAFT_ITEM_STACK_CLASS.isInstance(itemStack)) {
+                final Object handle = (Object) CRAFT_ITEM_STACK_HANDLE_GETTER.invokeExact((Object) itemStack);
+                if (handle != null) {
+                    return handle;
+                }
             }
+            return (Object) AS_NMS_COPY.invokeExact((Object) itemStack);
         }
     }
 }
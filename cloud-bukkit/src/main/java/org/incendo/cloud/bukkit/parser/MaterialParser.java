@@ -23,13 +23,15 @@
 //
 package org.incendo.cloud.bukkit.parser;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Locale;
-import java.util.stream.Collectors;
+import java.util.Map;
 import org.apiguardian.api.API;
 import org.bukkit.Material;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.bukkit.BukkitCaptionKeys;
+import org.incendo.cloud.bukkit.internal.SuggestionTable;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
@@ -43,6 +45,9 @@ import org.incendo.cloud.suggestion.Suggestion;
 
 public final class MaterialParser<C> implements ArgumentParser<C, Material>, BlockingSuggestionProvider<C> {
 
+    private static final Map<String, Material> MATERIALS = materials();
+    private static final SuggestionTable SUGGESTIONS = SuggestionTable.of(MATERIALS.keySet());
+
     /**
      * Creates a new material parser.
      *
@@ -73,12 +78,11 @@ public final class MaterialParser<C> implements ArgumentParser<C, Material>, Blo
             final @NonNull CommandInput commandInput
     ) {
         final String input = commandInput.readString();
-        try {
-            final Material material = Material.valueOf(input.toUpperCase(Locale.ROOT));
-            return ArgumentParseResult.success(material);
-        } catch (final IllegalArgumentException exception) {
+        final Material material = MATERIALS.get(input.toLowerCase(Locale.ROOT));
+        if (material == null) {
             return ArgumentParseResult.failure(new MaterialParseException(input, commandContext));
         }
+        return ArgumentParseResult.success(material);
     }
 
     @Override
@@ -86,11 +90,16 @@ public final class MaterialParser<C> implements ArgumentParser<C, Material>, Blo
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput input
     ) {
-        return Arrays.stream(Material.values())
-                .map(Material::name)
-                .map(String::toLowerCase)
-                .map(Suggestion::suggestion)
-                .collect(Collectors.toList());
+        return SUGGESTIONS.suggestions(input.peekString());
+    }
+
+    private static Map<String, Material> materials() {
+        final Material[] values = Material.values();
+        final Map<String, Material> materials = new HashMap<>(values.length * 2);
+        for (final Material material : values) {
+            materials.put(material.name().toLowerCase(Locale.ROOT), material);
+        }
+        return Collections.unmodifiableMap(materials);
     }
 
 
@@ -23,15 +23,19 @@
 //
 package org.incendo.cloud.bukkit.parser;
 
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 import org.apiguardian.api.API;
-import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.bukkit.BukkitCaptionKeys;
 import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
+import org.incendo.cloud.bukkit.internal.OfflinePlayerCache;
+import org.incendo.cloud.bukkit.internal.PlayerNameIndex;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
@@ -43,14 +47,15 @@ import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
 
 /**
- * Parser type that parses into {@link OfflinePlayer}. This is not thread safe. This
- * may also result in a blocking request to get the UUID for the offline player.
+ * Parser type that parses into {@link OfflinePlayer}.
  * <p>
- * Avoid using this type if possible.
+ * Names of online and recently resolved or seen players are resolved immediately. Other names are resolved
+ * asynchronously, which may involve a request to get the UUID for the offline player. Results are cached for a while.
  *
  * @param <C> Command sender type
  */
-public final class OfflinePlayerParser<C> implements ArgumentParser<C, OfflinePlayer>, BlockingSuggestionProvider.Strings<C> {
+public final class OfflinePlayerParser<C> implements ArgumentParser.FutureArgumentParser<C, OfflinePlayer>,
+        BlockingSuggestionProvider.Strings<C> {
 
     /**
      * Creates a new offline player parser.
@@ -77,24 +82,27 @@ public final class OfflinePlayerParser<C> implements ArgumentParser<C, OfflinePl
     }
 
     @Override
-    @SuppressWarnings("deprecation")
-    public @NonNull ArgumentParseResult<OfflinePlayer> parse(
+    public @NonNull CompletableFuture<@NonNull ArgumentParseResult<OfflinePlayer>> parseFuture(
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
         final String input = commandInput.readString();
         if (input.length() > 16) {
-            return ArgumentParseResult.failure(new OfflinePlayerParseException(input, commandContext));
+            return ArgumentParseResult.failureFuture(new OfflinePlayerParseException(input, commandContext));
         }
 
-        final OfflinePlayer player;
-        try {
-            player = Bukkit.getOfflinePlayer(input);
-        } catch (final Exception e) {
-            return ArgumentParseResult.failure(new OfflinePlayerParseException(input, commandContext));
+        final CompletableFuture<OfflinePlayer> lookup = OfflinePlayerCache.instance().resolve(input);
+        final BiFunction<OfflinePlayer, Throwable, ArgumentParseResult<OfflinePlayer>> toResult = (player, throwable) -> {
+            if (throwable != null) {
+                return ArgumentParseResult.failure(new OfflinePlayerParseException(input, commandContext));
+            }
+            return ArgumentParseResult.success(player);
+        };
+        if (lookup.isDone()) {
+            return lookup.handle(toResult);
         }
-
-        return ArgumentParseResult.success(player);
+        // The lookup completes on a worker thread, continue parsing on the thread owning the sender
+        return lookup.handleAsync(toResult, commandContext.get(BukkitCommandContextKeys.SENDER_SCHEDULER_EXECUTOR));
     }
 
     @Override
@@ -103,10 +111,20 @@ public final class OfflinePlayerParser<C> implements ArgumentParser<C, OfflinePl
             final @NonNull CommandInput input
     ) {
         final CommandSender bukkit = commandContext.get(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER);
-        return Bukkit.getOnlinePlayers().stream()
-                .filter(player -> !(bukkit instanceof Player && !((Player) bukkit).canSee(player)))
-                .map(Player::getName)
-                .collect(Collectors.toList());
+        final List<Player> players = PlayerNameIndex.instance().withPrefix(input.peekString(), Integer.MAX_VALUE);
+        final List<String> suggestions = new ArrayList<>(players.size());
+        for (final Player player : players) {
+            if (!(bukkit instanceof Player && !((Player) bukkit).canSee(player))) {
+                suggestions.add(player.getName());
+            }
+        }
+        for (final String name : OfflinePlayerCache.instance().knownNames(input.peekString())) {
+            // Online players have been filtered above
+            if (PlayerNameIndex.instance().exact(name) == null) {
+                suggestions.add(name);
+            }
+        }
+        return suggestions;
     }
 
 
@@ -23,14 +23,15 @@
 //
 package org.incendo.cloud.bukkit.parser;
 
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
 import org.apiguardian.api.API;
-import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.bukkit.BukkitCaptionKeys;
 import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
+import org.incendo.cloud.bukkit.internal.PlayerNameIndex;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
@@ -69,14 +70,13 @@ public final class PlayerParser<C> implements ArgumentParser<C, Player>, Blockin
     }
 
     @Override
-    @SuppressWarnings("deprecation")
     public @NonNull ArgumentParseResult<Player> parse(
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
         final String input = commandInput.readString();
 
-        Player player = Bukkit.getPlayer(input);
+        final Player player = PlayerNameIndex.instance().match(input);
 
         if (player == null) {
             return ArgumentParseResult.failure(new PlayerParseException(input, commandContext));
@@ -91,11 +91,14 @@ public final class PlayerParser<C> implements ArgumentParser<C, Player>, Blockin
             final @NonNull CommandInput input
     ) {
         final CommandSender bukkit = commandContext.get(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER);
-        return Bukkit.getOnlinePlayers().stream()
-                .filter(player -> !(bukkit instanceof Player && !((Player) bukkit).canSee(player)))
-                .map(Player::getName)
-                .map(Suggestion::suggestion)
-                .collect(Collectors.toList());
+        final List<Player> players = PlayerNameIndex.instance().withPrefix(input.peekString(), Integer.MAX_VALUE);
+        final List<Suggestion> suggestions = new ArrayList<>(players.size());
+        for (final Player player : players) {
+            if (!(bukkit instanceof Player && !((Player) bukkit).canSee(player))) {
+                suggestions.add(Suggestion.suggestion(player.getName()));
+            }
+        }
+        return suggestions;
     }
 
 
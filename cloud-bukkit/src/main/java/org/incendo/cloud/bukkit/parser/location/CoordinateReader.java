@@ -0,0 +1,195 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.parser.location;
+
+import org.bukkit.Location;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.standard.DoubleParser;
+
+/**
+ * Reads coordinates as a {@link LocationCoordinateType} and a {@code double} without creating intermediate
+ * {@link LocationCoordinate} instances, for use by the location parsers.
+ */
+final class CoordinateReader {
+
+    private CoordinateReader() {
+    }
+
+    /**
+     * Returns whether the input has no coordinate left to read.
+     *
+     * @param commandInput input
+     * @return whether the input has no coordinate left
+     */
+    static boolean isMissing(final @NonNull CommandInput commandInput) {
+        return !commandInput.hasRemainingInput(true);
+    }
+
+    /**
+     * Skips leading whitespace and consumes the prefix of the next coordinate, if any.
+     *
+     * @param commandInput input
+     * @return the type of the coordinate
+     */
+    static @NonNull LocationCoordinateType readType(final @NonNull CommandInput commandInput) {
+        commandInput.skipWhitespace();
+        if (!commandInput.hasRemainingInput()) {
+            return LocationCoordinateType.ABSOLUTE;
+        }
+        final char prefix = commandInput.peek();
+        if (prefix == '^') {
+            commandInput.moveCursor(1);
+            return LocationCoordinateType.LOCAL;
+        } else if (prefix == '~') {
+            commandInput.moveCursor(1);
+            return LocationCoordinateType.RELATIVE;
+        }
+        return LocationCoordinateType.ABSOLUTE;
+    }
+
+    /**
+     * Reads the value of the coordinate whose type was read by {@link #readType(CommandInput)}. A value omitted
+     * after a prefix is read as {@code 0}.
+     *
+     * @param commandInput input
+     * @return the value
+     * @throws RuntimeException if the value is not a valid double
+     */
+    static double readValue(final @NonNull CommandInput commandInput) {
+        final boolean empty = !commandInput.hasRemainingInput(true) || commandInput.peek() == ' ';
+        final double value = empty ? 0 : commandInput.readDouble();
+        if (commandInput.hasRemainingInput()) {
+            commandInput.skipWhitespace();
+        }
+        return value;
+    }
+
+    /**
+     * Creates the failure for a coordinate starting at {@code start} that has an invalid value.
+     *
+     * @param <T>            result type
+     * @param commandContext command context
+     * @param commandInput   input
+     * @param start          cursor at the start of the coordinate
+     * @return the failure
+     */
+    static <T> @NonNull ArgumentParseResult<T> invalidValue(
+            final @NonNull CommandContext<?> commandContext,
+            final @NonNull CommandInput commandInput,
+            final int start
+    ) {
+        final int cursor = commandInput.cursor();
+        final String input = commandInput.cursor(start).peekString();
+        commandInput.cursor(cursor);
+        return ArgumentParseResult.failure(new DoubleParser.DoubleParseException(
+                input,
+                new DoubleParser<>(
+                        DoubleParser.DEFAULT_MINIMUM,
+                        DoubleParser.DEFAULT_MAXIMUM
+                ),
+                commandContext
+        ));
+    }
+
+    /**
+     * Applies a non-local coordinate to the given axis of the location.
+     *
+     * @param location location to modify
+     * @param axis     axis index, {@code 0} for x, {@code 1} for y and {@code 2} for z
+     * @param type     type of the coordinate
+     * @param value    value of the coordinate
+     */
+    static void apply(
+            final @NonNull Location location,
+            final int axis,
+            final @NonNull LocationCoordinateType type,
+            final double value
+    ) {
+        final boolean relative = type == LocationCoordinateType.RELATIVE;
+        switch (axis) {
+            case 0:
+                location.setX(relative ? location.getX() + value : value);
+                break;
+            case 1:
+                location.setY(relative ? location.getY() + value : value);
+                break;
+            default:
+                location.setZ(relative ? location.getZ() + value : value);
+                break;
+        }
+    }
+
+    /**
+     * Moves the location by the given local offsets, which are relative to its rotation: {@code left} to the left,
+     * {@code up} upwards and {@code forwards} in the direction it is facing.
+     *
+     * @param location location to move
+     * @param left     offset to the left
+     * @param up       upwards offset
+     * @param forwards forwards offset
+     * @return the moved location
+     */
+    static @NonNull Location toLocalSpace(
+            final @NonNull Location location,
+            final double left,
+            final double up,
+            final double forwards
+    ) {
+        final float yaw = toRadians(location.getYaw() + 90.0F);
+        final float pitch = toRadians(-location.getPitch());
+        final float upPitch = toRadians(-location.getPitch() + 90.0F);
+        final double cosYaw = Math.cos(yaw);
+        final double sinYaw = Math.sin(yaw);
+        final double cosPitch = Math.cos(pitch);
+        final double sinPitch = Math.sin(pitch);
+        final double cosUpPitch = Math.cos(upPitch);
+        final double sinUpPitch = Math.sin(upPitch);
+
+        // Forwards and upwards axes
+        final double forwardsX = cosYaw * cosPitch;
+        final double forwardsY = sinPitch;
+        final double forwardsZ = sinYaw * cosPitch;
+        final double upX = cosYaw * cosUpPitch;
+        final double upY = sinUpPitch;
+        final double upZ = sinYaw * cosUpPitch;
+
+        // Left axis, the negated cross product of the forwards and upwards axes
+        final double leftX = -(forwardsY * upZ - upY * forwardsZ);
+        final double leftY = -(forwardsZ * upX - upZ * forwardsX);
+        final double leftZ = -(forwardsX * upY - upX * forwardsY);
+
+        return location.add(
+                left * leftX + up * upX + forwards * forwardsX,
+                left * leftY + up * upY + forwards * forwardsY,
+                left * leftZ + up * upZ + forwards * forwardsZ
+        );
+    }
+
+    private static float toRadians(final float degrees) {
+        return degrees * (float) Math.PI / 180f;
+    }
+}
@@ -29,7 +29,6 @@ import org.bukkit.Location;
 import org.bukkit.command.BlockCommandSender;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Entity;
-import org.bukkit.util.Vector;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
 import org.incendo.cloud.component.CommandComponent;
@@ -73,44 +72,36 @@ public final class Location2DParser<C> implements ArgumentParser<C, Location2D>,
         return CommandComponent.<C, Location2D>builder().parser(location2DParser());
     }
 
-    private final LocationCoordinateParser<C> locationCoordinateParser = new LocationCoordinateParser<>();
-
     @Override
     public @NonNull ArgumentParseResult<@NonNull Location2D> parse(
             final @NonNull CommandContext<@NonNull C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
         if (commandInput.remainingTokens() < 2) {
-            return ArgumentParseResult.failure(
-                    new LocationParser.LocationParseException(
-                            commandContext,
-                            LocationParser.LocationParseException.FailureReason.WRONG_FORMAT,
-                            commandInput.remainingInput()
-                    )
-            );
+            return LocationParser.wrongFormat(commandContext, commandInput);
         }
-        final LocationCoordinate[] coordinates = new LocationCoordinate[2];
-        for (int i = 0; i < 2; i++) {
-            if (commandInput.peekString().isEmpty()) {
-                return ArgumentParseResult.failure(
-                        new LocationParser.LocationParseException(
-                                commandContext,
-                                LocationParser.LocationParseException.FailureReason.WRONG_FORMAT,
-                                commandInput.remainingInput()
-                        )
-                );
+        final LocationCoordinateType xType;
+        final LocationCoordinateType zType;
+        final double x;
+        final double z;
+        int start = commandInput.cursor();
+        try {
+            if (CoordinateReader.isMissing(commandInput)) {
+                return LocationParser.wrongFormat(commandContext, commandInput);
             }
-            final ArgumentParseResult<@NonNull LocationCoordinate> coordinate = this.locationCoordinateParser.parse(
-                    commandContext,
-                    commandInput
-            );
-            if (coordinate.failure().isPresent()) {
-                return ArgumentParseResult.failure(
-                        coordinate.failure().get()
-                );
+            start = commandInput.skipWhitespace().cursor();
+            xType = CoordinateReader.readType(commandInput);
+            x = CoordinateReader.readValue(commandInput);
+            if (CoordinateReader.isMissing(commandInput)) {
+                return LocationParser.wrongFormat(commandContext, commandInput);
             }
-            coordinates[i] = coordinate.parsedValue().orElseThrow(NullPointerException::new);
+            start = commandInput.skipWhitespace().cursor();
+            zType = CoordinateReader.readType(commandInput);
+            z = CoordinateReader.readValue(commandInput);
+        } catch (final RuntimeException e) {
+            return CoordinateReader.invalidValue(commandContext, commandInput, start);
         }
+
         final Location originalLocation;
         final CommandSender bukkitSender = commandContext.get(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER);
 
@@ -122,7 +113,7 @@ public final class Location2DParser<C> implements ArgumentParser<C, Location2D>,
             originalLocation = new Location(Bukkit.getWorlds().get(0), 0, 0, 0);
         }
 
-        if (coordinates[0].type() == LocationCoordinateType.LOCAL && coordinates[1].type() != LocationCoordinateType.LOCAL) {
+        if (xType == LocationCoordinateType.LOCAL && zType != LocationCoordinateType.LOCAL) {
             return ArgumentParseResult.failure(
                     new LocationParser.LocationParseException(
                             commandContext,
@@ -132,23 +123,14 @@ public final class Location2DParser<C> implements ArgumentParser<C, Location2D>,
             );
         }
 
-        if (coordinates[0].type() == LocationCoordinateType.ABSOLUTE) {
-            originalLocation.setX(coordinates[0].coordinate());
-        } else if (coordinates[0].type() == LocationCoordinateType.RELATIVE) {
-            originalLocation.add(coordinates[0].coordinate(), 0, 0);
+        if (xType != LocationCoordinateType.LOCAL) {
+            CoordinateReader.apply(originalLocation, 0, xType, x);
         }
 
-        if (coordinates[1].type() == LocationCoordinateType.ABSOLUTE) {
-            originalLocation.setZ(coordinates[1].coordinate());
-        } else if (coordinates[1].type() == LocationCoordinateType.RELATIVE) {
-            originalLocation.add(0, 0, coordinates[1].coordinate());
+        if (zType != LocationCoordinateType.LOCAL) {
+            CoordinateReader.apply(originalLocation, 2, zType, z);
         } else {
-            final Vector declaredPos = new Vector(
-                    coordinates[0].coordinate(),
-                    0,
-                    coordinates[1].coordinate()
-            );
-            final Location local = LocationParser.toLocalSpace(originalLocation, declaredPos);
+            final Location local = CoordinateReader.toLocalSpace(originalLocation, x, 0, z);
             return ArgumentParseResult.success(Location2D.from(
                     originalLocation.getWorld(),
                     local.getX(),
@@ -28,7 +28,6 @@ import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
-import org.incendo.cloud.parser.standard.DoubleParser;
 
 /**
  * A single coordinate, meant to be used as an element in a position vector
@@ -43,36 +42,13 @@ public final class LocationCoordinateParser<C> implements ArgumentParser<C, Loca
             final @NonNull CommandContext<@NonNull C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
-        final String input = commandInput.skipWhitespace().peekString();
-
-        /* Determine the type */
-        final LocationCoordinateType locationCoordinateType;
-        if (commandInput.peek() == '^') {
-            locationCoordinateType = LocationCoordinateType.LOCAL;
-            commandInput.moveCursor(1);
-        } else if (commandInput.peek() == '~') {
-            locationCoordinateType = LocationCoordinateType.RELATIVE;
-            commandInput.moveCursor(1);
-        } else {
-            locationCoordinateType = LocationCoordinateType.ABSOLUTE;
-        }
-
+        final int start = commandInput.skipWhitespace().cursor();
+        final LocationCoordinateType locationCoordinateType = CoordinateReader.readType(commandInput);
         final double coordinate;
         try {
-            final boolean empty = commandInput.peekString().isEmpty() || commandInput.peek() == ' ';
-            coordinate = empty ? 0 : commandInput.readDouble();
-            if (commandInput.hasRemainingInput()) {
-                commandInput.skipWhitespace();
-            }
-        } catch (final Exception e) {
-            return ArgumentParseResult.failure(new DoubleParser.DoubleParseException(
-                    input,
-                    new DoubleParser<>(
-                            DoubleParser.DEFAULT_MINIMUM,
-                            DoubleParser.DEFAULT_MAXIMUM
-                    ),
-                    commandContext
-            ));
+            coordinate = CoordinateReader.readValue(commandInput);
+        } catch (final RuntimeException e) {
+            return CoordinateReader.invalidValue(commandContext, commandInput, start);
         }
 
         return ArgumentParseResult.success(
@@ -23,15 +23,14 @@
 //
 package org.incendo.cloud.bukkit.parser.location;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.command.BlockCommandSender;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Entity;
-import org.bukkit.util.Vector;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.bukkit.BukkitCaptionKeys;
 import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
@@ -83,45 +82,45 @@ public final class LocationParser<C> implements ArgumentParser<C, Location>, Blo
         return CommandComponent.<C, Location>builder().parser(locationParser());
     }
 
-    private final LocationCoordinateParser<C> locationCoordinateParser = new LocationCoordinateParser<>();
-
     @Override
     public @NonNull ArgumentParseResult<@NonNull Location> parse(
             final @NonNull CommandContext<@NonNull C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
         if (commandInput.remainingTokens() < 3) {
-            return ArgumentParseResult.failure(
-                    new LocationParseException(
-                            commandContext,
-                            LocationParseException.FailureReason.WRONG_FORMAT,
-                            commandInput.remainingInput()
-                    )
-            );
+            return wrongFormat(commandContext, commandInput);
         }
 
-        final LocationCoordinate[] coordinates = new LocationCoordinate[3];
-        for (int i = 0; i < 3; i++) {
-            if (commandInput.peekString().isEmpty()) {
-                return ArgumentParseResult.failure(
-                        new LocationParseException(
-                                commandContext,
-                                LocationParseException.FailureReason.WRONG_FORMAT,
-                                commandInput.remainingInput()
-                        )
-                );
+        final LocationCoordinateType xType;
+        final LocationCoordinateType yType;
+        final LocationCoordinateType zType;
+        final double x;
+        final double y;
+        final double z;
+        int start = commandInput.cursor();
+        try {
+            if (CoordinateReader.isMissing(commandInput)) {
+                return wrongFormat(commandContext, commandInput);
             }
-            final ArgumentParseResult<@NonNull LocationCoordinate> coordinate = this.locationCoordinateParser.parse(
-                    commandContext,
-                    commandInput
-            );
-            if (coordinate.failure().isPresent()) {
-                return ArgumentParseResult.failure(
-                        coordinate.failure().get()
-                );
+            start = commandInput.skipWhitespace().cursor();
+            xType = CoordinateReader.readType(commandInput);
+            x = CoordinateReader.readValue(commandInput);
+            if (CoordinateReader.isMissing(commandInput)) {
+                return wrongFormat(commandContext, commandInput);
             }
-            coordinates[i] = coordinate.parsedValue().orElseThrow(NullPointerException::new);
+            start = commandInput.skipWhitespace().cursor();
+            yType = CoordinateReader.readType(commandInput);
+            y = CoordinateReader.readValue(commandInput);
+            if (CoordinateReader.isMissing(commandInput)) {
+                return wrongFormat(commandContext, commandInput);
+            }
+            start = commandInput.skipWhitespace().cursor();
+            zType = CoordinateReader.readType(commandInput);
+            z = CoordinateReader.readValue(commandInput);
+        } catch (final RuntimeException e) {
+            return CoordinateReader.invalidValue(commandContext, commandInput, start);
         }
+
         final Location originalLocation;
         final CommandSender bukkitSender = commandContext.get(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER);
 
@@ -138,11 +137,8 @@ public final class LocationParser<C> implements ArgumentParser<C, Location>, Blo
             }
         }
 
-        if (((coordinates[0].type() == LocationCoordinateType.LOCAL)
-                != (coordinates[1].type() == LocationCoordinateType.LOCAL))
-                || ((coordinates[0].type() == LocationCoordinateType.LOCAL)
-                != (coordinates[2].type() == LocationCoordinateType.LOCAL))
-        ) {
+        final boolean local = xType == LocationCoordinateType.LOCAL;
+        if (local != (yType == LocationCoordinateType.LOCAL) || local != (zType == LocationCoordinateType.LOCAL)) {
             return ArgumentParseResult.failure(
                     new LocationParseException(
                             commandContext,
@@ -152,60 +148,31 @@ public final class LocationParser<C> implements ArgumentParser<C, Location>, Blo
             );
         }
 
-        if (coordinates[0].type() == LocationCoordinateType.ABSOLUTE) {
-            originalLocation.setX(coordinates[0].coordinate());
-        } else if (coordinates[0].type() == LocationCoordinateType.RELATIVE) {
-            originalLocation.add(coordinates[0].coordinate(), 0, 0);
-        }
-
-        if (coordinates[1].type() == LocationCoordinateType.ABSOLUTE) {
-            originalLocation.setY(coordinates[1].coordinate());
-        } else if (coordinates[1].type() == LocationCoordinateType.RELATIVE) {
-            originalLocation.add(0, coordinates[1].coordinate(), 0);
-        }
-
-        if (coordinates[2].type() == LocationCoordinateType.ABSOLUTE) {
-            originalLocation.setZ(coordinates[2].coordinate());
-        } else if (coordinates[2].type() == LocationCoordinateType.RELATIVE) {
-            originalLocation.add(0, 0, coordinates[2].coordinate());
-        } else {
-            final Vector declaredPos = new Vector(
-                    coordinates[0].coordinate(),
-                    coordinates[1].coordinate(),
-                    coordinates[2].coordinate()
-            );
+        if (local) {
             return ArgumentParseResult.success(
-                    toLocalSpace(originalLocation, declaredPos)
+                    CoordinateReader.toLocalSpace(originalLocation, x, y, z)
             );
         }
+        CoordinateReader.apply(originalLocation, 0, xType, x);
+        CoordinateReader.apply(originalLocation, 1, yType, y);
+        CoordinateReader.apply(originalLocation, 2, zType, z);
 
         return ArgumentParseResult.success(
                 originalLocation
         );
     }
 
-    static @NonNull Location toLocalSpace(final @NonNull Location originalLocation, final @NonNull Vector declaredPos) {
-        final double cosYaw = Math.cos(toRadians(originalLocation.getYaw() + 90.0F));
-        final double sinYaw = Math.sin(toRadians(originalLocation.getYaw() + 90.0F));
-        final double cosPitch = Math.cos(toRadians(-originalLocation.getPitch()));
-        final double sinPitch = Math.sin(toRadians(-originalLocation.getPitch()));
-        final double cosNegYaw = Math.cos(toRadians(-originalLocation.getPitch() + 90.0F));
-        final double sinNegYaw = Math.sin(toRadians(-originalLocation.getPitch() + 90.0F));
-        final Vector zModifier = new Vector(cosYaw * cosPitch, sinPitch, sinYaw * cosPitch);
-        final Vector yModifier = new Vector(cosYaw * cosNegYaw, sinNegYaw, sinYaw * cosNegYaw);
-        final Vector xModifier = zModifier.crossProduct(yModifier).multiply(-1);
-        final double xOffset = dotProduct(declaredPos, xModifier.getX(), yModifier.getX(), zModifier.getX());
-        final double yOffset = dotProduct(declaredPos, xModifier.getY(), yModifier.getY(), zModifier.getY());
-        final double zOffset = dotProduct(declaredPos, xModifier.getZ(), yModifier.getZ(), zModifier.getZ());
-        return originalLocation.add(xOffset, yOffset, zOffset);
-    }
-
-    private static double dotProduct(final Vector location, final double x, final double y, final double z) {
-        return location.getX() * x + location.getY() * y + location.getZ() * z;
-    }
-
-    private static float toRadians(final float degrees) {
-        return degrees * (float) Math.PI / 180f;
+    static <T> @NonNull ArgumentParseResult<T> wrongFormat(
+            final @NonNull CommandContext<?> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        return ArgumentParseResult.failure(
+                new LocationParseException(
+                        commandContext,
+                        LocationParseException.FailureReason.WRONG_FORMAT,
+                        commandInput.remainingInput()
+                )
+        );
     }
 
     @Override
@@ -229,11 +196,10 @@ public final class LocationParser<C> implements ArgumentParser<C, Location>, Blo
             if (!input.hasRemainingInput(true)) {
                 break;
             }
-            final ArgumentParseResult<LocationCoordinate> coordinateResult = new LocationCoordinateParser<C>().parse(
-                commandContext,
-                input
-            );
-            if (coordinateResult.failure().isPresent()) {
+            try {
+                CoordinateReader.readType(input);
+                CoordinateReader.readValue(input);
+            } catch (final RuntimeException e) {
                 break;
             }
         }
@@ -245,10 +211,12 @@ public final class LocationParser<C> implements ArgumentParser<C, Location>, Blo
 
         final String prefix = inputCopy.difference(input, true);
 
-        return IntegerParser.getSuggestions(
-            SUGGESTION_RANGE,
-            input
-        ).stream().map(string -> prefix + string).collect(Collectors.toList());
+        final List<String> suggestions = IntegerParser.getSuggestions(SUGGESTION_RANGE, input);
+        final List<String> prefixed = new ArrayList<>(suggestions.size());
+        for (final String suggestion : suggestions) {
+            prefixed.add(prefix + suggestion);
+        }
+        return prefixed;
     }
 
 
@@ -29,9 +29,11 @@ import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
 import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -43,8 +45,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.command.CommandSender;
@@ -58,6 +60,7 @@ import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
 import org.incendo.cloud.bukkit.internal.MinecraftArgumentTypes;
+import org.incendo.cloud.bukkit.internal.SelectorResultCache;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.parser.ArgumentParseResult;
@@ -86,41 +89,71 @@ final class SelectorUtils {
         return new ModernSelectorParser<>(wrappedBrigParser, mapper);
     }
 
-    @SuppressWarnings("unchecked")
     private static ArgumentType<Object> createEntityArgument(final boolean single, final boolean playersOnly) {
-        final Constructor<?> constructor =
-                MinecraftArgumentTypes.getClassByKey(NamespacedKey.minecraft("entity")).getDeclaredConstructors()[0];
-        constructor.setAccessible(true);
-        try {
-            return (ArgumentType<Object>) constructor.newInstance(single, playersOnly);
-        } catch (final ReflectiveOperationException ex) {
-            throw new RuntimeException(ex);
-        }
+        return EntityArgumentPlan.argumentType(single, playersOnly);
     }
 
-    private static final class EntityArgumentParseFunction implements WrappedBrigadierParser.ParseFunction<Object> {
+    /**
+     * Everything needed to parse a selector with Vanilla's {@code EntityArgument}, resolved once when the first
+     * modern selector parser is used.
+     */
+    private static final class EntityArgumentPlan {
 
-        static final EntityArgumentParseFunction INSTANCE = new EntityArgumentParseFunction();
+        private static final Class<?> ENTITY_ARGUMENT_CLASS = MinecraftArgumentTypes.getClassByKey(NamespacedKey.minecraft("entity"));
+        // EntityArgument is immutable, so one instance per (single, playersOnly) combination is shared by all parsers
+        private static final List<ArgumentType<Object>> ARGUMENT_TYPES = createArgumentTypes();
+        // CraftBukkit's parse overload with its extra parameters bound, or null if Vanilla's parse should be used
+        private static final @Nullable MethodHandle CRAFTBUKKIT_PARSE = findCraftBukkitParse();
 
-        @Override
-        public Object apply(
-                final ArgumentType<Object> type,
-                final StringReader reader
-        ) throws CommandSyntaxException {
+        private EntityArgumentPlan() {
+        }
+
+        static ArgumentType<Object> argumentType(final boolean single, final boolean playersOnly) {
+            return ARGUMENT_TYPES.get((single ? 2 : 0) | (playersOnly ? 1 : 0));
+        }
+
+        static Object parse(final ArgumentType<Object> type, final StringReader reader) throws CommandSyntaxException {
+            if (CRAFTBUKKIT_PARSE == null || !ENTITY_ARGUMENT_CLASS.isInstance(type)) {
+                return type.parse(reader);
+            }
+            try {
+                return (Object) CRAFTBUKKIT_PARSE.invokeExact((Object) type, (Object) reader);
+            } catch (final CommandSyntaxException ex) {
+                throw ex;
+            } catch (final Throwable thr) {
+                throw CraftBukkitReflection.propagate(thr);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static List<ArgumentType<Object>> createArgumentTypes() {
+            final Constructor<?> constructor = ENTITY_ARGUMENT_CLASS.getDeclaredConstructors()[0];
+            constructor.setAccessible(true);
+            final List<ArgumentType<Object>> types = new ArrayList<>(4);
+            try {
+                for (int i = 0; i < 4; i++) {
+                    types.add((ArgumentType<Object>) constructor.newInstance((i & 2) != 0, (i & 1) != 0));
+                }
+            } catch (final ReflectiveOperationException ex) {
+                throw new RuntimeException(ex);
+            }
+            return Collections.unmodifiableList(types);
+        }
+
+        private static @Nullable MethodHandle findCraftBukkitParse() {
             // Minecraft 1.21.1 added allowSelectors to Vanilla's internal parse overload. CraftBukkit moved
             // its existing overridePermissions parameter to a new three-argument overload to avoid a collision.
             final @Nullable Method parseWithSelectorControl = CraftBukkitReflection.findMethod(
-                    type.getClass(),
+                    ENTITY_ARGUMENT_CLASS,
                     "parse",
                     StringReader.class,
                     boolean.class,
                     boolean.class
             );
             if (parseWithSelectorControl != null) {
-                return invokeCraftBukkitParse(
-                        parseWithSelectorControl,
-                        type,
-                        reader,
+                return MethodHandles.insertArguments(
+                        CraftBukkitReflection.compile(parseWithSelectorControl),
+                        2,
                         true, // allowSelectors
                         true // overridePermissions
                 );
@@ -128,38 +161,32 @@ final class SelectorUtils {
 
             // Before Minecraft 1.21.1, CraftBukkit's only additional parameter was overridePermissions.
             final @Nullable Method parseWithPermissionOverride = CraftBukkitReflection.findMethod(
-                    type.getClass(),
+                    ENTITY_ARGUMENT_CLASS,
                     "parse",
                     StringReader.class,
                     boolean.class
             );
             if (parseWithPermissionOverride != null) {
-                return invokeCraftBukkitParse(
-                        parseWithPermissionOverride,
-                        type,
-                        reader,
+                return MethodHandles.insertArguments(
+                        CraftBukkitReflection.compile(parseWithPermissionOverride),
+                        2,
                         true // overridePermissions
                 );
             }
-            return type.parse(reader);
+            return null;
         }
+    }
 
-        private static Object invokeCraftBukkitParse(
-                final Method method,
+    private static final class EntityArgumentParseFunction implements WrappedBrigadierParser.ParseFunction<Object> {
+
+        static final EntityArgumentParseFunction INSTANCE = new EntityArgumentParseFunction();
+
+        @Override
+        public Object apply(
                 final ArgumentType<Object> type,
-                final Object... arguments
+                final StringReader reader
         ) throws CommandSyntaxException {
-            try {
-                return method.invoke(type, arguments);
-            } catch (final InvocationTargetException ex) {
-                final Throwable cause = ex.getCause();
-                if (cause instanceof CommandSyntaxException) {
-                    throw (CommandSyntaxException) cause;
-                }
-                throw new RuntimeException(ex);
-            } catch (final ReflectiveOperationException ex) {
-                throw new RuntimeException(ex);
-            }
+            return EntityArgumentPlan.parse(type, reader);
         }
     }
 
@@ -324,7 +351,7 @@ final class SelectorUtils {
                 final String input = originalCommandInput.difference(commandInput);
                 try {
                     return ArgumentParseResult.success(
-                            this.mapper.mapResult(input, new EntitySelectorWrapper(commandContext, result.parsedValue().get()))
+                            this.mapper.mapResult(input, new EntitySelectorWrapper(commandContext, result.parsedValue().get(), input))
                     );
                 } catch (final CommandSyntaxException ex) {
                     return ArgumentParseResult.failure(ex);
@@ -340,26 +367,232 @@ final class SelectorUtils {
                 final @NonNull CommandInput input
         ) {
             final Object commandSourceStack = commandContext.get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
-            final @Nullable Field bypassField =
-                    CraftBukkitReflection.findField(commandSourceStack.getClass(), "bypassSelectorPermissions");
+            return SelectorBypassingSources.get(commandSourceStack.getClass()).withBypass(
+                    commandSourceStack,
+                    bypassingSource -> {
+                        if (bypassingSource == commandSourceStack) {
+                            return this.wrappedBrigadierParser.suggestionProvider().suggestionsFuture(commandContext, input);
+                        }
+                        // The context belongs to this suggestion request, the source is only read while the
+                        // Brigadier context is created
+                        commandContext.store(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER, bypassingSource);
+                        try {
+                            return this.wrappedBrigadierParser.suggestionProvider().suggestionsFuture(commandContext, input);
+                        } finally {
+                            commandContext.store(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER, commandSourceStack);
+                        }
+                    }
+            );
+        }
+    }
+
+    /**
+     * Lets Paper command sources bypass selector permissions while selector suggestions are listed, so that they are
+     * listed for senders who may not use selectors themselves.
+     *
+     * <p>A per-request copy of the source is made with {@code bypassSelectorPermissions} set, using the method that
+     * copies the source with another permission level ({@code withPermission(int)}), after which the permission level
+     * of the copy is reset to the level of the source. If the source cannot be copied, the flag is set on the shared
+     * source while the suggestions are requested, one request per source at a time.</p>
+     */
+    private static final class SelectorBypassingSources {
+
+        private static final ClassValue<SelectorBypassingSources> PLANS = new ClassValue<SelectorBypassingSources>() {
+            @Override
+            protected SelectorBypassingSources computeValue(final Class<?> type) {
+                return new SelectorBypassingSources(type);
+            }
+        };
+
+        private final Class<?> sourceClass;
+        private final @Nullable MethodHandle getBypass;
+        private final @Nullable MethodHandle setBypass;
+        private final @Nullable MethodHandle withPermission;
+        private volatile @MonotonicNonNull Copier copier;
+
+        private SelectorBypassingSources(final Class<?> sourceClass) {
+            this.sourceClass = sourceClass;
+            final @Nullable Field bypassField = CraftBukkitReflection.findField(sourceClass, "bypassSelectorPermissions");
+            if (bypassField == null) {
+                // Not Paper, selector permissions cannot be bypassed
+                this.getBypass = null;
+                this.setBypass = null;
+                this.withPermission = null;
+                return;
+            }
+            this.getBypass = CraftBukkitReflection.compileGetter(bypassField)
+                    .asType(MethodType.methodType(boolean.class, Object.class));
+            this.setBypass = CraftBukkitReflection.compileSetter(bypassField)
+                    .asType(MethodType.methodType(void.class, Object.class, boolean.class));
+            final @Nullable Method withPermissionMethod = findWithPermission(sourceClass);
+            this.withPermission = withPermissionMethod == null
+                    ? null
+                    : CraftBukkitReflection.compile(withPermissionMethod)
+                            .asType(MethodType.methodType(Object.class, Object.class, int.class));
+        }
+
+        /**
+         * Finds {@code withPermission(int)} by its signature, as it is obfuscated on Spigot mapped servers. The only
+         * other method with the same signature is {@code withMaximumPermission(int)}, which is equivalent to it when
+         * the level is raised.
+         *
+         * @param sourceClass source class
+         * @return the method, or {@code null}
+         */
+        private static @Nullable Method findWithPermission(final Class<?> sourceClass) {
+            final @Nullable Method named = CraftBukkitReflection.findMethod(sourceClass, "withPermission", int.class);
+            if (named != null) {
+                return named;
+            }
+            for (final Method method : sourceClass.getDeclaredMethods()) {
+                if (!Modifier.isStatic(method.getModifiers())
+                        && method.getReturnType() == sourceClass
+                        && method.getParameterCount() == 1
+                        && method.getParameterTypes()[0] == int.class) {
+                    return method;
+                }
+            }
+            return null;
+        }
+
+        static SelectorBypassingSources get(final Class<?> sourceClass) {
+            return PLANS.get(sourceClass);
+        }
+
+        /**
+         * Invokes the given function with a source that bypasses selector permissions. This is a copy of the source
+         * if possible, or else the source itself with the flag set until the function returns. Sources that do not
+         * know about selector permissions are passed as they are.
+         *
+         * @param <T>      result type
+         * @param source   native command source
+         * @param function function to invoke with the bypassing source
+         * @return the result of the function
+         */
+        <T> T withBypass(final Object source, final Function<Object, T> function) {
+            if (this.setBypass == null || this.getBypass == null) {
+                return function.apply(source);
+            }
             try {
-                boolean prev = false;
-                try {
-                    if (bypassField != null) {
-                        prev = bypassField.getBoolean(commandSourceStack);
-                        bypassField.setBoolean(commandSourceStack, true);
+                final @Nullable Object copy = this.copier(source).copy(source);
+                if (copy != null) {
+                    this.setBypass.invokeExact(copy, true);
+                    return function.apply(copy);
+                }
+                synchronized (source) {
+                    final boolean previous = (boolean) this.getBypass.invokeExact(source);
+                    this.setBypass.invokeExact(source, true);
+                    try {
+                        // Vanilla completes selector suggestions while they are requested, so the flag is still set
+                        // while they are computed
+                        return function.apply(source);
+                    } finally {
+                        this.setBypass.invokeExact(source, previous);
                     }
-                    // stupid hack
-                    return CompletableFuture.completedFuture(
-                            this.wrappedBrigadierParser.suggestionProvider().suggestionsFuture(commandContext, input).join()
-                    );
-                } finally {
-                    if (bypassField != null) {
-                        bypassField.setBoolean(commandSourceStack, prev);
+                }
+            } catch (final Throwable thr) {
+                throw CraftBukkitReflection.propagate(thr);
+            }
+        }
+
+        private Copier copier(final Object source) throws Throwable {
+            @Nullable Copier copier = this.copier;
+            if (copier == null) {
+                synchronized (this) {
+                    copier = this.copier;
+                    if (copier == null) {
+                        copier = this.resolveCopier(source);
+                        this.copier = copier;
                     }
                 }
-            } catch (final ReflectiveOperationException ex) {
-                throw new RuntimeException(ex);
+            }
+            return copier;
+        }
+
+        /**
+         * Resolves the permission level field, {@code permissionLevel} on Mojang mapped servers. Otherwise, it is the
+         * int field that holds the level passed to {@code withPermission} in a copy of the given source.
+         *
+         * @param source a source of the class
+         * @return the copier
+         * @throws Throwable if copying the source fails
+         */
+        private Copier resolveCopier(final Object source) throws Throwable {
+            if (this.withPermission == null) {
+                return new Copier(null, null, null);
+            }
+            @Nullable Field levelField = CraftBukkitReflection.findField(this.sourceClass, "permissionLevel");
+            if (levelField == null || levelField.getType() != int.class) {
+                levelField = null;
+                final List<Field> intFields = new ArrayList<>();
+                int level = Integer.MIN_VALUE;
+                for (final Field field : this.sourceClass.getDeclaredFields()) {
+                    if (field.getType() == int.class && !Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        intFields.add(field);
+                        level = Math.max(level, field.getInt(source));
+                    }
+                }
+                // Exceeds the value of every int field, so that the copy is made and its level field can be told apart
+                final Object copy = (Object) this.withPermission.invokeExact(source, level + 1);
+                if (copy == source) {
+                    return new Copier(null, null, null);
+                }
+                for (final Field field : intFields) {
+                    if (field.getInt(copy) == level + 1) {
+                        if (levelField != null) {
+                            return new Copier(null, null, null);
+                        }
+                        levelField = field;
+                    }
+                }
+                if (levelField == null) {
+                    return new Copier(null, null, null);
+                }
+            }
+            return new Copier(
+                    this.withPermission,
+                    CraftBukkitReflection.compileGetter(levelField).asType(MethodType.methodType(int.class, Object.class)),
+                    CraftBukkitReflection.compileSetter(levelField).asType(MethodType.methodType(void.class, Object.class, int.class))
+            );
+        }
+
+
+        private static final class Copier {
+
+            private final @Nullable MethodHandle withPermission;
+            private final @Nullable MethodHandle getLevel;
+            private final @Nullable MethodHandle setLevel;
+
+            private Copier(
+                    final @Nullable MethodHandle withPermission,
+                    final @Nullable MethodHandle getLevel,
+                    final @Nullable MethodHandle setLevel
+            ) {
+                this.withPermission = withPermission;
+                this.getLevel = getLevel;
+                this.setLevel = setLevel;
+            }
+
+            /**
+             * Copies the source with the same permission level. {@code withPermission} returns the source itself if the
+             * level does not change, so the copy is made with another level that is then reset.
+             *
+             * @param source source
+             * @return the copy, or {@code null} if the source cannot be copied
+             * @throws Throwable if copying fails
+             */
+            @Nullable Object copy(final Object source) throws Throwable {
+                if (this.withPermission == null || this.getLevel == null || this.setLevel == null) {
+                    return null;
+                }
+                final int level = (int) this.getLevel.invokeExact(source);
+                final Object copy = (Object) this.withPermission.invokeExact(source, level + 1);
+                if (copy == source) {
+                    return null;
+                }
+                this.setLevel.invokeExact(copy, level);
+                return copy;
             }
         }
     }
@@ -370,18 +603,24 @@ final class SelectorUtils {
 
         private final CommandContext<?> commandContext;
         private final Object selector;
+        private final String input;
 
         private static final class Methods {
 
-            private @MonotonicNonNull Method getBukkitEntity;
-            private @MonotonicNonNull Method entity;
-            private @MonotonicNonNull Method player;
-            private @MonotonicNonNull Method entities;
-            private @MonotonicNonNull Method players;
+            private final MethodHandle getBukkitEntity;
+            private final MethodHandle entity;
+            private final MethodHandle player;
+            private final MethodHandle entities;
+            private final MethodHandle players;
 
             Methods(final CommandContext<?> commandContext, final Object selector) {
                 final Object nativeSender = commandContext.get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
                 final Class<?> nativeSenderClass = nativeSender.getClass();
+                @Nullable Method getBukkitEntityMethod = null;
+                @Nullable Method entityMethod = null;
+                @Nullable Method playerMethod = null;
+                @Nullable Method entitiesMethod = null;
+                @Nullable Method playersMethod = null;
                 for (final Method method : selector.getClass().getDeclaredMethods()) {
                     if (method.getParameterCount() != 1
                             || !method.getParameterTypes()[0].equals(nativeSenderClass)
@@ -405,15 +644,15 @@ final class SelectorUtils {
                         }
                         final Class<?> bukkitType = getBukkitEntity.getReturnType();
                         if (Player.class.isAssignableFrom(bukkitType)) {
-                            if (this.players != null) {
+                            if (playersMethod != null) {
                                 throw new IllegalStateException();
                             }
-                            this.players = method;
+                            playersMethod = method;
                         } else {
-                            if (this.entities != null) {
+                            if (entitiesMethod != null) {
                                 throw new IllegalStateException();
                             }
-                            this.entities = method;
+                            entitiesMethod = method;
                         }
                     } else if (returnType != Void.TYPE) {
                         final @Nullable Method getBukkitEntity = findGetBukkitEntityMethod(returnType);
@@ -422,24 +661,29 @@ final class SelectorUtils {
                         }
                         final Class<?> bukkitType = getBukkitEntity.getReturnType();
                         if (Player.class.isAssignableFrom(bukkitType)) {
-                            if (this.player != null) {
+                            if (playerMethod != null) {
                                 throw new IllegalStateException();
                             }
-                            this.player = method;
+                            playerMethod = method;
                         } else {
-                            if (this.entity != null || this.getBukkitEntity != null) {
+                            if (entityMethod != null || getBukkitEntityMethod != null) {
                                 throw new IllegalStateException();
                             }
-                            this.entity = method;
-                            this.getBukkitEntity = getBukkitEntity;
+                            entityMethod = method;
+                            getBukkitEntityMethod = getBukkitEntity;
                         }
                     }
                 }
-                Objects.requireNonNull(this.getBukkitEntity, "Failed to locate getBukkitEntity method");
-                Objects.requireNonNull(this.player, "Failed to locate findPlayer method");
-                Objects.requireNonNull(this.entity, "Failed to locate findEntity method");
-                Objects.requireNonNull(this.players, "Failed to locate findPlayers method");
-                Objects.requireNonNull(this.entities, "Failed to locate findEntities method");
+                this.getBukkitEntity = CraftBukkitReflection.compile(
+                        Objects.requireNonNull(getBukkitEntityMethod, "Failed to locate getBukkitEntity method"));
+                this.player = CraftBukkitReflection.compile(
+                        Objects.requireNonNull(playerMethod, "Failed to locate findPlayer method"));
+                this.entity = CraftBukkitReflection.compile(
+                        Objects.requireNonNull(entityMethod, "Failed to locate findEntity method"));
+                this.players = CraftBukkitReflection.compile(
+                        Objects.requireNonNull(playersMethod, "Failed to locate findPlayers method"));
+                this.entities = CraftBukkitReflection.compile(
+                        Objects.requireNonNull(entitiesMethod, "Failed to locate findEntities method"));
             }
 
             private static @Nullable Method findGetBukkitEntityMethod(final Class<?> returnType) {
@@ -459,10 +703,12 @@ final class SelectorUtils {
 
         EntitySelectorWrapper(
                 final CommandContext<?> commandContext,
-                final Object selector
+                final Object selector,
+                final String input
         ) {
             this.commandContext = commandContext;
             this.selector = selector;
+            this.input = input;
         }
 
         @SuppressWarnings("LockOnNonEnclosingClassLiteral")
@@ -482,57 +728,95 @@ final class SelectorUtils {
         }
 
         Entity singleEntity() {
-            return reflectiveOperation(() -> (Entity) this.methods().getBukkitEntity.invoke(this.methods().entity.invoke(
-                    this.selector,
-                    this.commandContext.<Object>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
-            )));
+            return this.cached("entity", () -> {
+                final Methods handles = this.methods();
+                return reflectiveOperation(() -> (Entity) (Object) handles.getBukkitEntity.invokeExact(
+                        (Object) handles.entity.invokeExact(this.selector, this.nativeSender())
+                ));
+            });
         }
 
         Player singlePlayer() {
-            return reflectiveOperation(() -> (Player) this.methods().getBukkitEntity.invoke(this.methods().player.invoke(
-                    this.selector,
-                    this.commandContext.<Object>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
-            )));
+            return this.cached("player", () -> {
+                final Methods handles = this.methods();
+                return reflectiveOperation(() -> (Player) (Object) handles.getBukkitEntity.invokeExact(
+                        (Object) handles.player.invokeExact(this.selector, this.nativeSender())
+                ));
+            });
         }
 
         @SuppressWarnings("unchecked")
         List<Entity> entities() {
-            final List<Object> internalEntities = reflectiveOperation(() -> ((List<Object>) this.methods().entities.invoke(
-                    this.selector,
-                    this.commandContext.<Object>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
-            )));
-            return internalEntities.stream()
-                    .map(o -> reflectiveOperation(() -> (Entity) this.methods().getBukkitEntity.invoke(o)))
-                    .collect(Collectors.toList());
+            return this.cached("entities", () -> {
+                final Methods handles = this.methods();
+                final List<Object> internalEntities = reflectiveOperation(() -> (List<Object>) (Object) handles.entities.invokeExact(
+                        this.selector,
+                        this.nativeSender()
+                ));
+                return toBukkitEntities(handles, internalEntities, Entity.class);
+            });
         }
 
         @SuppressWarnings("unchecked")
         List<Player> players() {
-            final List<Object> serverPlayers = reflectiveOperation(() -> ((List<Object>) this.methods().players.invoke(
-                    this.selector,
-                    this.commandContext.<Object>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
-            )));
-            return serverPlayers.stream()
-                    .map(o -> reflectiveOperation(() -> (Player) this.methods().getBukkitEntity.invoke(o)))
-                    .collect(Collectors.toList());
+            return this.cached("players", () -> {
+                final Methods handles = this.methods();
+                final List<Object> serverPlayers = reflectiveOperation(() -> (List<Object>) (Object) handles.players.invokeExact(
+                        this.selector,
+                        this.nativeSender()
+                ));
+                return toBukkitEntities(handles, serverPlayers, Player.class);
+            });
+        }
+
+        private <T> T cached(final String kind, final Supplier<T> resolver) {
+            final @Nullable SelectorResultCache cache = this.commandContext.optional(SelectorResultCache.KEY).orElse(null);
+            if (cache == null) {
+                return resolver.get();
+            }
+            return cache.computeIfAbsent(
+                    this.input,
+                    kind,
+                    this.commandContext.get(BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER),
+                    this.nativeSender(),
+                    resolver
+            );
+        }
+
+        private static <T extends Entity> List<T> toBukkitEntities(
+                final Methods handles,
+                final List<Object> internalEntities,
+                final Class<T> type
+        ) {
+            final MethodHandle getBukkitEntity = handles.getBukkitEntity;
+            final List<T> entities = new ArrayList<>(internalEntities.size());
+            try {
+                for (final Object internalEntity : internalEntities) {
+                    entities.add(type.cast((Object) getBukkitEntity.invokeExact(internalEntity)));
+                }
+            } catch (final Throwable thr) {
+                throw CraftBukkitReflection.propagate(thr);
+            }
+            return Collections.unmodifiableList(entities);
+        }
+
+        private Object nativeSender() {
+            return this.commandContext.get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
         }
 
         @FunctionalInterface
         interface ReflectiveOperation<T> {
 
-            T run() throws ReflectiveOperationException;
+            T run() throws Throwable;
         }
 
         private static <T> T reflectiveOperation(final ReflectiveOperation<T> op) {
             try {
                 return op.run();
-            } catch (final InvocationTargetException ex) {
-                if (ex.getCause() instanceof CommandSyntaxException) {
-                    throw rethrow(ex.getCause());
-                }
-                throw new RuntimeException(ex);
-            } catch (final ReflectiveOperationException ex) {
-                throw new RuntimeException(ex);
+            } catch (final CommandSyntaxException ex) {
+                throw rethrow(ex);
+            } catch (final Throwable thr) {
+                throw CraftBukkitReflection.propagate(thr);
             }
         }
     }
@@ -0,0 +1,122 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import org.bukkit.entity.Player;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlayerNameIndexTest {
+
+    @Test
+    void testExact() {
+        // Arrange
+        final Player alice = player("Alice");
+        final Player bob = player("Bob");
+        final PlayerNameIndex.Snapshot snapshot = PlayerNameIndex.Snapshot.EMPTY.with(bob).with(alice);
+
+        // Act & Assert
+        assertThat(snapshot.exact("alice")).isSameInstanceAs(alice);
+        assertThat(snapshot.exact("BOB")).isSameInstanceAs(bob);
+        assertThat(snapshot.exact("bo")).isNull();
+        assertThat(snapshot.exact("carol")).isNull();
+    }
+
+    @Test
+    void testMatch() {
+        // Arrange
+        final Player bob = player("Bob");
+        final Player bobby = player("Bobby");
+        final Player bobbette = player("Bobbette");
+        final PlayerNameIndex.Snapshot snapshot = PlayerNameIndex.Snapshot.EMPTY.with(bobbette).with(bobby).with(bob);
+
+        // Act & Assert
+        assertThat(snapshot.match("bob")).isSameInstanceAs(bob);
+        assertThat(snapshot.match("bobb")).isSameInstanceAs(bobby);
+        assertThat(snapshot.match("bobbe")).isSameInstanceAs(bobbette);
+        assertThat(snapshot.match("bobx")).isNull();
+    }
+
+    @Test
+    void testWithPrefix() {
+        // Arrange
+        final Player alice = player("Alice");
+        final Player albert = player("albert");
+        final Player alfred = player("Alfred");
+        final Player bob = player("Bob");
+        final PlayerNameIndex.Snapshot snapshot = PlayerNameIndex.Snapshot.EMPTY.with(bob).with(alfred).with(alice).with(albert);
+
+        // Act & Assert
+        assertThat(snapshot.withPrefix("AL", 10)).containsExactly(albert, alfred, alice).inOrder();
+        assertThat(snapshot.withPrefix("al", 2)).containsExactly(albert, alfred).inOrder();
+        assertThat(snapshot.withPrefix("", 10)).containsExactly(albert, alfred, alice, bob).inOrder();
+        assertThat(snapshot.withPrefix("c", 10)).isEmpty();
+        assertThat(snapshot.withPrefix("al", 0)).isEmpty();
+    }
+
+    @Test
+    void testNamesDifferingInCase() {
+        // Arrange
+        final Player upper = player("Bob");
+        final Player lower = player("bob");
+
+        // Act
+        final PlayerNameIndex.Snapshot both = PlayerNameIndex.Snapshot.EMPTY.with(upper).with(lower);
+        final PlayerNameIndex.Snapshot upperQuit = both.without(upper);
+        final PlayerNameIndex.Snapshot upperRejoined = upperQuit.with(upper);
+
+        // Assert
+        assertThat(both.withPrefix("bob", 10)).containsExactly(upper, lower).inOrder();
+        assertThat(both.exact("Bob")).isSameInstanceAs(upper);
+        assertThat(both.exact("bob")).isSameInstanceAs(lower);
+        assertThat(both.exact("BOB")).isSameInstanceAs(upper);
+        assertThat(upperQuit.withPrefix("bob", 10)).containsExactly(lower);
+        assertThat(upperQuit.exact("Bob")).isSameInstanceAs(lower);
+        assertThat(upperRejoined.withPrefix("bob", 10)).containsExactly(lower, upper).inOrder();
+    }
+
+    @Test
+    void testRejoinDoesNotDuplicate() {
+        // Arrange
+        final Player bob = player("Bob");
+
+        // Act
+        final PlayerNameIndex.Snapshot snapshot = PlayerNameIndex.Snapshot.EMPTY.with(bob).with(bob);
+
+        // Assert
+        assertThat(snapshot.withPrefix("", 10)).containsExactly(bob);
+        assertThat(snapshot.without(bob).withPrefix("", 10)).isEmpty();
+        assertThat(snapshot.without(player("Bob")).withPrefix("", 10)).containsExactly(bob);
+    }
+
+    private static @NonNull Player player(final @NonNull String name) {
+        final Player player = mock(Player.class);
+        when(player.getName()).thenReturn(name);
+        return player;
+    }
+}
@@ -0,0 +1,85 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.util.Arrays;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class SuggestionTableTest {
+
+    private final SuggestionTable table = SuggestionTable.of(Arrays.asList(
+            "stone",
+            "Stone_Bricks",
+            "minecraft:sharpness",
+            "dirt",
+            "STONE_AXE",
+            "diamond"
+    ));
+
+    @Test
+    void testEmptyPrefix() {
+        // Act & Assert
+        assertThat(this.table.strings("")).containsExactly(
+                "diamond",
+                "dirt",
+                "minecraft:sharpness",
+                "stone",
+                "STONE_AXE",
+                "Stone_Bricks"
+        ).inOrder();
+        assertThat(this.table.suggestions("")).hasSize(6);
+    }
+
+    @Test
+    void testMixedCasePrefix() {
+        // Act & Assert
+        assertThat(this.table.strings("sTo")).containsExactly("stone", "STONE_AXE", "Stone_Bricks").inOrder();
+        assertThat(this.table.strings("STONE_")).containsExactly("STONE_AXE", "Stone_Bricks").inOrder();
+        assertThat(this.table.strings("Di")).containsExactly("diamond", "dirt").inOrder();
+        assertThat(this.table.strings("MINECRAFT:")).containsExactly("minecraft:sharpness");
+        assertThat(this.table.suggestions("Dir")).containsExactly(Suggestion.suggestion("dirt"));
+    }
+
+    @Test
+    void testNoMatch() {
+        // Act & Assert
+        assertThat(this.table.strings("a")).isEmpty();
+        assertThat(this.table.strings("stonex")).isEmpty();
+        assertThat(this.table.strings("zzz")).isEmpty();
+        assertThat(this.table.suggestions("dj")).isEmpty();
+    }
+
+    @Test
+    void testEmptyTable() {
+        // Arrange
+        final SuggestionTable empty = SuggestionTable.of(Arrays.asList());
+
+        // Act & Assert
+        assertThat(empty.strings("")).isEmpty();
+        assertThat(empty.strings("a")).isEmpty();
+    }
+}
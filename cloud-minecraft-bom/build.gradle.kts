@@ -20,6 +20,10 @@ dependencies {
                 continue
             }
 
+            if (subproject.name == "cloud-benchmarks") {
+                continue
+            }
+
             api(project(subproject.path))
         }
     }
@@ -43,8 +43,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Logger;
+import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
-import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -53,13 +53,17 @@ import org.incendo.cloud.Command;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.SenderMapper;
 import org.incendo.cloud.brigadier.BrigadierManagerHolder;
+import org.incendo.cloud.brigadier.BrigadierSetting;
 import org.incendo.cloud.brigadier.CloudBrigadierCommand;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
 import org.incendo.cloud.brigadier.permission.BrigadierPermissionChecker;
+import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.PluginHolder;
 import org.incendo.cloud.bukkit.internal.BukkitBackwardsBrigadierSenderMapper;
 import org.incendo.cloud.bukkit.internal.BukkitBrigadierMapper;
 import org.incendo.cloud.bukkit.internal.BukkitHelper;
+import org.incendo.cloud.bukkit.internal.CommandBuildContextSupplier;
+import org.incendo.cloud.bukkit.internal.CommandTreeResender;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.internal.CommandNode;
 import org.incendo.cloud.internal.CommandRegistrationHandler;
@@ -72,7 +76,11 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
     private final CloudBrigadierManager<C, CommandSourceStack> brigadierManager;
     private final Map<String, Set<String>> aliases = new ConcurrentHashMap<>();
     private final Set<Command<C>> registeredCommands = new HashSet<>();
+    private final Map<String, BrigadierPermissionChecker<C>> permissionCheckers = new ConcurrentHashMap<>();
+    private final CloudBrigadierCommand<C, CommandSourceStack> executor;
+    private final CommandTreeResender commandTreeResender;
     private volatile @Nullable Commands commands;
+    private @Nullable Object buildContext;
 
     // TODO - Allow registering in bootstrap/onEnable per-root-note, based on meta value?
     @SuppressWarnings("unchecked")
@@ -93,6 +101,13 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
             throw new IllegalArgumentException(manager.toString());
         }
 
+        if (manager instanceof BukkitCommandManager) {
+            // Share the resender so that bulk deletions are sent once
+            this.commandTreeResender = ((BukkitCommandManager<?>) manager).commandTreeResender();
+        } else {
+            this.commandTreeResender = new CommandTreeResender(this.metaHolder::owningPlugin);
+        }
+
         this.brigadierManager = new CloudBrigadierManager<>(
             this.manager,
             SenderMapper.create(
@@ -113,6 +128,14 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
             )
         );
 
+        // Reloads and late registrations rebuild the root nodes, only rebuild the parts that changed
+        this.brigadierManager.settings().set(BrigadierSetting.REUSE_UNCHANGED_NODES, true);
+        this.executor = new CloudBrigadierCommand<>(
+            this.manager,
+            this.brigadierManager,
+            command -> BukkitHelper.stripNamespace(this.metaHolder.owningPluginMeta().getName(), command)
+        );
+
         final BukkitBrigadierMapper<C> mapper =
             new BukkitBrigadierMapper<>(Logger.getLogger(this.metaHolder.owningPluginMeta().getName()), this.brigadierManager);
         mapper.registerBuiltInMappings();
@@ -132,6 +155,7 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
 
         final Commands commands = event.registrar();
         this.commands = commands;
+        this.invalidateStaleNodes();
 
         this.aliases.clear();
         for (final CommandNode<C> rootNode : this.manager.commandTree().rootNodes()) {
@@ -151,24 +175,38 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
     }
 
     private LiteralCommandNode<CommandSourceStack> createRootNode(final CommandNode<C> rootNode, final String label) {
-        final BrigadierPermissionChecker<C> permissionChecker = (sender, permission) -> {
+        return this.brigadierManager.literalBrigadierNodeFactory().createNode(
+            label,
+            rootNode,
+            this.executor,
+            this.permissionChecker(rootNode.component().name())
+        );
+    }
+
+    // Argument types built with an outdated command build context still refer to the old registries
+    @SuppressWarnings("ConstantValue")
+    private void invalidateStaleNodes() {
+        if (Bukkit.getServer() == null) {
+            // Bootstrap, the registries are not available yet
+            return;
+        }
+        final Object buildContext = CommandBuildContextSupplier.commandBuildContext();
+        if (this.buildContext != null && this.buildContext != buildContext) {
+            this.brigadierManager.literalBrigadierNodeFactory().invalidateNodeCache();
+        }
+        this.buildContext = buildContext;
+    }
+
+    // The checker is kept per root so that the node factory can reuse the nodes built for it
+    private BrigadierPermissionChecker<C> permissionChecker(final String rootName) {
+        return this.permissionCheckers.computeIfAbsent(rootName, name -> (sender, permission) -> {
             // We need to check that the command still exists...
-            if (this.manager.commandTree().getNamedNode(rootNode.component().name()) == null) {
+            if (this.manager.commandTree().getNamedNode(name) == null) {
                 return false;
             }
 
             return this.manager.testPermission(sender, permission).allowed();
-        };
-        return this.brigadierManager.literalBrigadierNodeFactory().createNode(
-            label,
-            rootNode,
-            new CloudBrigadierCommand<>(
-                this.manager,
-                this.brigadierManager,
-                command -> BukkitHelper.stripNamespace(this.metaHolder.owningPluginMeta().getName(), command)
-            ),
-            permissionChecker
-        );
+        });
     }
 
     private String findBukkitDescription(final CommandNode<C> node) {
@@ -240,6 +278,8 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
     private static @MonotonicNonNull Method commandnodeRemoveMethod = null;
 
     private void unregisterRoot(final Commands commands, final String label) {
+        this.brigadierManager.literalBrigadierNodeFactory().invalidateNodeCache(label);
+        this.permissionCheckers.remove(label);
         final @Nullable Set<String> removed = this.aliases.remove(label);
         if (removed == null || removed.isEmpty()) {
             return;
@@ -283,9 +323,7 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
     }
 
     private void resendCommands() {
-        for (final Player player : this.metaHolder.owningPlugin().getServer().getOnlinePlayers()) {
-            player.updateCommands();
-        }
+        this.commandTreeResender.markDirty();
     }
 
     private static @MonotonicNonNull Field commandsInvalidField = null;
@@ -25,6 +25,8 @@ package org.incendo.cloud.paper;
 
 import java.util.concurrent.Executor;
 import java.util.function.Function;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.command.BlockCommandSender;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Entity;
@@ -77,12 +79,24 @@ final class PaperCommandPreprocessor<B, C> implements CommandPreprocessor<C> {
         }
     }
 
+    /**
+     * Creates an executor which runs tasks on the thread owning the sender. Tasks submitted from that thread run
+     * inline, so that the parsers of one command share a single scheduler hop rather than making one each.
+     *
+     * @param sender sender
+     * @return executor
+     */
     private Executor foliaExecutorFor(final C sender) {
         final CommandSender commandSender = this.senderExtractor.apply(this.mapper.reverse(sender));
         final Plugin plugin = this.pluginHolder.owningPlugin();
         if (commandSender instanceof Entity) {
+            final Entity entity = (Entity) commandSender;
             return task -> {
-                ((Entity) commandSender).getScheduler().run(
+                if (Bukkit.isOwnedByCurrentRegion(entity)) {
+                    task.run();
+                    return;
+                }
+                entity.getScheduler().run(
                         plugin,
                         handle -> task.run(),
                         null
@@ -90,15 +104,24 @@ final class PaperCommandPreprocessor<B, C> implements CommandPreprocessor<C> {
             };
         } else if (commandSender instanceof BlockCommandSender) {
             final BlockCommandSender blockSender = (BlockCommandSender) commandSender;
+            final Location location = blockSender.getBlock().getLocation();
             return task -> {
+                if (Bukkit.isOwnedByCurrentRegion(location)) {
+                    task.run();
+                    return;
+                }
                 blockSender.getServer().getRegionScheduler().run(
                         plugin,
-                        blockSender.getBlock().getLocation(),
+                        location,
                         handle -> task.run()
                 );
             };
         }
         return task -> {
+            if (Bukkit.isGlobalTickThread()) {
+                task.run();
+                return;
+            }
             plugin.getServer().getGlobalRegionScheduler().run(
                     plugin,
                     handle -> task.run()
@@ -24,12 +24,16 @@
 package org.incendo.cloud.paper.suggestion;
 
 import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.bukkit.event.EventHandler;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.brigadier.suggestion.SuggestionDeadline;
 import org.incendo.cloud.bukkit.BukkitPluginRegistrationHandler;
 import org.incendo.cloud.bukkit.internal.BukkitHelper;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.paper.LegacyPaperCommandManager;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.Suggestions;
@@ -78,7 +82,23 @@ class AsyncCommandSuggestionListener<C> implements SuggestionListener<C> {
     }
 
     protected Suggestions<C, ?> querySuggestions(final @NonNull C commandSender, final @NonNull String input) {
-        return this.paperCommandManager.suggestionFactory().suggestImmediately(commandSender, input);
+        return SuggestionDeadline.await(
+                this.paperCommandManager.suggestionFactory().suggest(commandSender, input),
+                this.paperCommandManager.suggestionTimeout(),
+                () -> emptySuggestions(this.paperCommandManager, commandSender, input)
+        );
+    }
+
+    static <C, S extends Suggestion> @NonNull Suggestions<C, S> emptySuggestions(
+            final @NonNull LegacyPaperCommandManager<C> paperCommandManager,
+            final @NonNull C commandSender,
+            final @NonNull String input
+    ) {
+        return Suggestions.create(
+                new CommandContext<>(commandSender, paperCommandManager),
+                Collections.emptyList(),
+                CommandInput.of(input)
+        );
     }
 
     protected void setSuggestions(
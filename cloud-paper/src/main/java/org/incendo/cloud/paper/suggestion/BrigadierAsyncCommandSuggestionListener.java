@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 import org.bukkit.event.EventHandler;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.brigadier.suggestion.SuggestionDeadline;
 import org.incendo.cloud.brigadier.suggestion.TooltipSuggestion;
 import org.incendo.cloud.paper.LegacyPaperCommandManager;
 import org.incendo.cloud.paper.suggestion.tooltips.CompletionMapper;
@@ -40,10 +41,12 @@ import org.incendo.cloud.util.StringUtils;
 class BrigadierAsyncCommandSuggestionListener<C> extends AsyncCommandSuggestionListener<C> {
 
     private final CompletionMapperFactory completionMapperFactory = CompletionMapperFactory.detectingRelocation();
+    private final LegacyPaperCommandManager<C> paperCommandManager;
     private final SuggestionFactory<C, ? extends TooltipSuggestion> suggestionFactory;
 
     BrigadierAsyncCommandSuggestionListener(final @NonNull LegacyPaperCommandManager<C> paperCommandManager) {
         super(paperCommandManager);
+        this.paperCommandManager = paperCommandManager;
         this.suggestionFactory = paperCommandManager.suggestionFactory().mapped(TooltipSuggestion::tooltipSuggestion);
     }
 
@@ -58,7 +61,11 @@ class BrigadierAsyncCommandSuggestionListener<C> extends AsyncCommandSuggestionL
             final @NonNull C commandSender,
             final @NonNull String input
     ) {
-        return this.suggestionFactory.suggestImmediately(commandSender, input);
+        return SuggestionDeadline.await(
+                this.suggestionFactory.suggest(commandSender, input),
+                this.paperCommandManager.suggestionTimeout(),
+                () -> emptySuggestions(this.paperCommandManager, commandSender, input)
+        );
     }
 
     @Override
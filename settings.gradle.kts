@@ -52,6 +52,8 @@ rootProject.name = "cloud-minecraft"
 
 include("cloud-minecraft-bom")
 
+include("cloud-benchmarks")
+
 include("cloud-brigadier")
 include("cloud-bukkit")
 include("cloud-bungee")